@@ -0,0 +1,25 @@
+package com.amblessed.employees.audit;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.time.Instant;
+
+/**
+ * One security audit record. Any field other than {@code type} and {@code timestamp} may be null.
+ */
+public record AuditEvent(
+        Instant timestamp,
+        AuditEventType type,
+        String principal,
+        String remoteAddress,
+        String path,
+        String detail
+) {
+}
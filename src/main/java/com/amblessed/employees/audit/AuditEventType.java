@@ -0,0 +1,17 @@
+package com.amblessed.employees.audit;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+public enum AuditEventType {
+    ROLE_CHECK,
+    SELF_ACCESS_CHECK,
+    USER_LOOKUP,
+    AUTHENTICATION_FAILURE
+}
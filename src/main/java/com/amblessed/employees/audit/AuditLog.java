@@ -0,0 +1,201 @@
+package com.amblessed.employees.audit;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Structured security audit trail that keeps I/O off request threads.
+ * <p>
+ * {@link #record} samples per event type, then does a single non-blocking offer into an {@link AuditRingBuffer};
+ * if the buffer is full the event is counted as dropped. A background writer drains the buffer in batches
+ * and appends JSON lines to {@code audit.log}, rolling it once it passes {@code app.audit.max-file-size}.
+ * <p>
+ * Sample rates come from {@code app.audit.sample-rates} as {@code TYPE:rate} pairs; unlisted types are always kept.
+ */
+@Component
+public class AuditLog {
+
+    private static final String ACTIVE_FILE = "audit.log";
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    private final ObjectMapper objectMapper;
+    private final AuditRingBuffer buffer;
+    private final Map<AuditEventType, Double> sampleRates = new EnumMap<>(AuditEventType.class);
+    private final Map<AuditEventType, Counter> dropped = new EnumMap<>(AuditEventType.class);
+    private final Counter written;
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final int batchSize;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private OutputStream writer;
+    private long currentFileBytes;
+    private long lastRolledAt;
+
+    public AuditLog(MeterRegistry meterRegistry,
+                    ObjectMapper objectMapper,
+                    @Value("${app.audit.directory:logs/audit}") String directory,
+                    @Value("${app.audit.buffer-capacity:8192}") int bufferCapacity,
+                    @Value("${app.audit.batch-size:256}") int batchSize,
+                    @Value("${app.audit.sample-rates:}") String sampleRates,
+                    @Value("${app.audit.max-file-size:10MB}") DataSize maxFileSize,
+                    @Value("${app.audit.max-files:5}") int maxFiles) {
+        this.objectMapper = objectMapper;
+        this.buffer = new AuditRingBuffer(bufferCapacity);
+        this.directory = Path.of(directory);
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.maxFiles = maxFiles;
+        this.batchSize = batchSize;
+
+        for (AuditEventType type : AuditEventType.values()) {
+            this.sampleRates.put(type, 1.0);
+            this.dropped.put(type, Counter.builder("audit.events.dropped")
+                    .description("Audit events discarded because the buffer was full")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        for (String entry : sampleRates.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) continue;
+            String[] parts = trimmed.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Audit sample rates must be configured as TYPE:rate");
+            }
+            this.sampleRates.put(AuditEventType.valueOf(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+        }
+        this.written = Counter.builder("audit.events.written").register(meterRegistry);
+        meterRegistry.gauge("audit.buffer.size", buffer, AuditRingBuffer::size);
+    }
+
+    /**
+     * Non-blocking: never touches the file system on the calling thread.
+     */
+    public void record(AuditEventType type, String principal, String remoteAddress, String path, String detail) {
+        double rate = sampleRates.get(type);
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return;
+        }
+        if (!buffer.offer(new AuditEvent(Instant.now(), type, principal, remoteAddress, path, detail))) {
+            dropped.get(type).increment();
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        openActiveFile();
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            batch.clear();
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+                continue;
+            }
+            try {
+                writeBatch(batch);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to write {} audit events: {}", batch.size(), e.getMessage());
+            }
+        }
+        closeQuietly();
+    }
+
+    private void writeBatch(List<AuditEvent> batch) throws IOException {
+        for (AuditEvent event : batch) {
+            // Counted in encoded bytes, which is what max-file-size limits; characters undercount non-ASCII text
+            byte[] json = objectMapper.writeValueAsBytes(event);
+            writer.write(json);
+            writer.write(LINE_SEPARATOR);
+            currentFileBytes += json.length + LINE_SEPARATOR.length;
+        }
+        writer.flush();
+        written.increment(batch.size());
+        if (currentFileBytes >= maxFileBytes) {
+            roll();
+        }
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        Path active = directory.resolve(ACTIVE_FILE);
+        // Strictly increasing, so two rolls in the same millisecond do not overwrite each other
+        lastRolledAt = Math.max(lastRolledAt + 1, System.currentTimeMillis());
+        Files.move(active, directory.resolve("audit-" + lastRolledAt + ".log"), StandardCopyOption.REPLACE_EXISTING);
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> rolled = files
+                    .filter(file -> file.getFileName().toString().matches("audit-\\d+\\.log"))
+                    .sorted(Comparator.comparing(Path::toString))
+                    .toList();
+            for (int i = 0; i < rolled.size() - maxFiles; i++) {
+                Files.deleteIfExists(rolled.get(i));
+            }
+        }
+        openActiveFile();
+    }
+
+    private void openActiveFile() throws IOException {
+        Path active = directory.resolve(ACTIVE_FILE);
+        writer = new BufferedOutputStream(Files.newOutputStream(active, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        currentFileBytes = Files.size(active);
+    }
+
+    private void closeQuietly() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close audit log: {}", e.getMessage());
+        }
+    }
+}
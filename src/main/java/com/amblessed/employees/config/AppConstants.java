@@ -16,8 +16,14 @@ public class AppConstants {
     public static final String SORT_BY_FIRSTNAME = "firstName";
     public static final String SORT_BY_LASTNAME = "lastName";
     public static final String SORT_BY_DEPARTMENT = "department";
+    public static final String SORT_BY_SALARY = "salary";
+    public static final String SORT_BY_HIRE_DATE = "hireDate";
     public static final String SORT_DIRECTION = "asc";
+    public static final String PAGING_OFFSET = "offset";
+    public static final String PAGING_CURSOR = "cursor";
+    public static final String PAGING_SLICE = "slice";
     public static final String DEFAULT_SALARY = "50000";
+    public static final String SEARCH_SIZE = "20";
     public static final String DEFAULT_POSITION = "Test Automation Engineer";
     public static final String DEFAULT_DEPARTMENT = "Engineering";
 }
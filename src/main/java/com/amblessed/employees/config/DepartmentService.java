@@ -140,6 +140,13 @@ public class DepartmentService {
         return new ArrayList<>(SKILLS_BY_POSITION.getOrDefault(position, List.of()));
     }
 
+    /**
+     * Every skill any position can be generated with, without duplicates, in a stable order.
+     */
+    public static List<String> getAllSkills() {
+        return SKILLS_BY_POSITION.values().stream().flatMap(List::stream).distinct().sorted().toList();
+    }
+
     public static List<String> getRandomSkills(List<String> skillsPool) {
         Collections.shuffle(skillsPool);
         return skillsPool.subList(0, ThreadLocalRandom.current().nextInt(2, skillsPool.size() + 1));
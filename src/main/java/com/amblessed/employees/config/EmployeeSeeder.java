@@ -15,12 +15,14 @@ import com.amblessed.employees.entity.User;
 import com.amblessed.employees.repository.EmployeeRepository;
 import com.amblessed.employees.repository.RoleRepository;
 import com.amblessed.employees.repository.UserRepository;
+import com.amblessed.employees.service.EmployeeChangedEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -44,6 +46,7 @@ public class EmployeeSeeder implements CommandLineRunner {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final Logger log = LoggerFactory.getLogger(EmployeeSeeder.class);
 
     private static final Random random = new Random();
@@ -125,6 +128,7 @@ public class EmployeeSeeder implements CommandLineRunner {
         if (!usersBatch.isEmpty()) {
             userRepository.saveAll(usersBatch);
         }
+        eventPublisher.publishEvent(EmployeeChangedEvent.reloaded());
 
         writeToJsonFile();
     }
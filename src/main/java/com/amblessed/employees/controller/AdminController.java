@@ -11,7 +11,6 @@ package com.amblessed.employees.controller;
 import com.amblessed.employees.service.RoleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -26,7 +25,6 @@ public class AdminController {
 
     // Assign a role to a user
     @PostMapping("/assign-role")
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> assignRole(@RequestParam String userId, @RequestParam String role) {
         try {
             roleService.assignRole(userId, role);
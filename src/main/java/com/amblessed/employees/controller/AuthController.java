@@ -10,15 +10,22 @@ package com.amblessed.employees.controller;
 
 import com.amblessed.employees.entity.EmployeeRequest;
 import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.TokenRequest;
 import com.amblessed.employees.entity.UserDTO;
+import com.amblessed.employees.security.AccessTokenService;
 import com.amblessed.employees.service.EmployeeService;
 import com.amblessed.employees.service.RegistrationService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -26,11 +33,29 @@ import java.util.Map;
 
 
 @RestController
-@RequestMapping("/api/admin/employees")
+@RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final EmployeeService employeeService;
+    private final AuthenticationManager authenticationManager;
+    private final AccessTokenService accessTokenService;
+
+
+    @Operation(summary = "Issue access token", description = "Exchange user ID and password for a short-lived bearer token")
+    @PostMapping("/token")
+    public ResponseEntity<Map<String, Object>> issueToken(@Valid @RequestBody TokenRequest tokenRequest, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken credentials =
+                UsernamePasswordAuthenticationToken.unauthenticated(tokenRequest.getUserId(), tokenRequest.getPassword());
+        credentials.setDetails(new WebAuthenticationDetails(request));
+        Authentication authentication = authenticationManager.authenticate(credentials);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("access_token", accessTokenService.issue(authentication));
+        body.put("token_type", "Bearer");
+        body.put("expires_in", accessTokenService.getTtl().toSeconds());
+        return ResponseEntity.ok(body);
+    }
 
 
     /*@Operation(summary = "Create employee", description = "Only admins can create employees")
@@ -9,25 +9,56 @@ package com.amblessed.employees.controller;
  */
 
 import com.amblessed.employees.config.AppConstants;
+import com.amblessed.employees.entity.AccountRequest;
+import com.amblessed.employees.entity.CursorPage;
+import com.amblessed.employees.entity.EmployeeAggregate;
 import com.amblessed.employees.entity.EmployeeRequest;
 import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.EmployeeSearchCriteria;
+import com.amblessed.employees.entity.EmployeeStamp;
+import com.amblessed.employees.entity.SalaryStats;
+import com.amblessed.employees.exception.ExportExpiredException;
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.search.ColumnarEmployees;
+import com.amblessed.employees.service.EmployeeDataVersion;
 import com.amblessed.employees.service.EmployeeService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.amblessed.employees.service.EmployeeStatistics;
+import com.amblessed.employees.service.ExportEncoding;
+import com.amblessed.employees.service.ExportFormat;
+import com.amblessed.employees.service.ExportJob;
+import com.amblessed.employees.service.ExportJobService;
+import com.amblessed.employees.service.ExportSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,19 +71,70 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class EmployeeRestController {
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final EmployeeService employeeService;
+    private final ExportSnapshotCache exportSnapshotCache;
+    private final ExportJobService exportJobService;
+    private final EmployeeStatistics employeeStatistics;
+    private final ColumnarEmployees columnarEmployees;
+    private final EmployeeDataVersion dataVersion;
 
-    @Operation(summary = "Get all employees", description = "Only managers can fetch paginated employees")
+    @Operation(summary = "Get all employees", description = "Only managers can fetch paginated employees. " +
+            "Pass paging=cursor (or a cursor from a previous response) for keyset paging, or paging=slice for " +
+            "offset pages that report hasNext instead of totals")
     @ApiResponse(responseCode = "200", description = "Employees fetched successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
     @ApiResponse(responseCode = "403", description = "Unauthorized")
     @GetMapping
-    @PreAuthorize("@employeeSecurity.isAdminOrManager(authentication)")
     public ResponseEntity<Map<String, Object>> findAllEmployees(
             @RequestParam(defaultValue = AppConstants.PAGE) Integer page,
             @RequestParam(defaultValue = AppConstants.SIZE) Integer size,
             @RequestParam(defaultValue = AppConstants.SORT_BY_FIRSTNAME) String sortBy,
-            @RequestParam(defaultValue = AppConstants.SORT_DIRECTION) String direction
+            @RequestParam(defaultValue = AppConstants.SORT_DIRECTION) String direction,
+            @RequestParam(defaultValue = AppConstants.PAGING_OFFSET) String paging,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
+        boolean keyset = cursor != null || AppConstants.PAGING_CURSOR.equals(paging);
+        // Offset pages report totals, so the cached count stamp costs nothing extra; keyset and slice pages
+        // never count, so they validate against the data version instead of a table-wide aggregate
+        Object version = keyset || AppConstants.PAGING_SLICE.equals(paging)
+                ? dataVersion.tag()
+                : employeeService.stamp(null, null, null);
+        if (webRequest.checkNotModified(etag(version, page, size, sortBy, direction, paging, cursor))) {
+            return null;
+        }
+
+        if (keyset) {
+            CursorPage<EmployeeResponse> employees = employeeService.findAllAfter(cursor, size, sortBy, direction);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("employees", employees.content());
+            response.put("size", employees.size());
+            response.put("numberOfElements", employees.content().size());
+            response.put("hasNext", employees.hasNext());
+            response.put("nextCursor", employees.nextCursor());
+            return ResponseEntity.ok(response);
+        }
+        if (AppConstants.PAGING_SLICE.equals(paging)) {
+            Slice<EmployeeResponse> employees = employeeService.findSlice(page, size, sortBy, direction);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("employees", employees.getContent());
+            response.put("currentPage", employees.getNumber());
+            response.put("size", employees.getSize());
+            response.put("numberOfElements", employees.getNumberOfElements());
+            response.put("hasNext", employees.hasNext());
+            response.put("first", employees.isFirst());
+            response.put("last", employees.isLast());
+            response.put("empty", employees.isEmpty());
+            return ResponseEntity.ok(response);
+        }
+
         Page<EmployeeResponse> employees = employeeService.findAll(page, size, sortBy, direction);
 
         Map<String, Object> response = new HashMap<>();
@@ -72,9 +154,11 @@ public class EmployeeRestController {
 
     @Operation(summary = "Get employee by ID", description = "Self-access or managers/admins only")
     @GetMapping("/id/{employeeId}")
-    @PreAuthorize("@employeeSecurity.isAdminOrManagerOrSelf(authentication, #employeeId)")
-    public ResponseEntity<Map<String, Object>> findByEmployeeId(@PathVariable String employeeId) {
+    public ResponseEntity<Map<String, Object>> findByEmployeeId(@PathVariable String employeeId, WebRequest webRequest) {
         EmployeeResponse employee = employeeService.findByEmployeeId(employeeId);
+        if (webRequest.checkNotModified(etag(employee.getEmployeeId(), employee.getUpdatedAt()))) {
+            return null;
+        }
         Map<String, Object> response = Map.of(
                 "employee", employee,
                 "detail", "Employee found successfully"
@@ -83,52 +167,286 @@ public class EmployeeRestController {
     }
 
 
-    @Operation(summary = "Search employees", description = "Managers/Admins can search by department, position or salary")
+    @Operation(summary = "Search employees", description = "Managers/Admins can search by departments, positions " +
+            "(repeat the parameter or comma-separate values), salary range, hire date range and active flag, " +
+            "sorted and paged; the whole search runs as one query. facets=true adds counts per department, position, " +
+            "active flag and salary band under the same filter")
+    @ApiResponse(responseCode = "200", description = "One page of matches")
+    @ApiResponse(responseCode = "400", description = "Inverted range, unknown sort or invalid page")
+    @ApiResponse(responseCode = "404", description = "Unknown department or position")
     @GetMapping("/search")
-    @PreAuthorize("@employeeSecurity.isAdminOrManager(authentication)")
     public ResponseEntity<Map<String, Object>> searchEmployees(
-            @RequestParam(required = false) String department,
-            @RequestParam(required = false) String position,
-            @RequestParam(required = false, defaultValue = AppConstants.DEFAULT_SALARY) BigDecimal salary
+            @RequestParam(required = false) List<String> department,
+            @RequestParam(required = false) List<String> position,
+            @RequestParam(required = false, defaultValue = AppConstants.DEFAULT_SALARY) BigDecimal salary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = AppConstants.PAGE) Integer page,
+            @RequestParam(defaultValue = AppConstants.SEARCH_SIZE) Integer size,
+            @RequestParam(defaultValue = AppConstants.SORT_BY_FIRSTNAME) String sortBy,
+            @RequestParam(defaultValue = AppConstants.SORT_DIRECTION) String direction,
+            @RequestParam(defaultValue = "false") boolean facets,
+            WebRequest webRequest
+    ) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(department, position, salary, maxSalary,
+                hiredFrom, hiredTo, active);
+        EmployeeStamp stamp = employeeService.stamp(criteria);
+        if (webRequest.checkNotModified(etag(stamp, criteria.key(), page, size, sortBy, direction, facets))) {
+            return null;
+        }
+        Slice<EmployeeResponse> results = employeeService.searchEmployees(criteria, page, size, sortBy, direction);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("employees", results.getContent());
+        response.put("count", results.getNumberOfElements());
+        response.put("currentPage", results.getNumber());
+        response.put("size", results.getSize());
+        response.put("hasNext", results.hasNext());
+        if (facets) {
+            response.put("facets", employeeService.facets(criteria));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "Salary statistics", description = "Managers/Admins get headcount and average, min, max " +
+            "and total salary per department, or per department and position with groupBy=position, from " +
+            "in-memory aggregates")
+    @ApiResponse(responseCode = "200", description = "Statistics per group")
+    @ApiResponse(responseCode = "400", description = "Unknown groupBy")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> salaryStatistics(
+            @RequestParam(defaultValue = AppConstants.SORT_BY_DEPARTMENT) String groupBy
+    ) {
+        if (!AppConstants.SORT_BY_DEPARTMENT.equals(groupBy) && !"position".equals(groupBy)) {
+            throw new InvalidParameterException("groupBy must be department or position");
+        }
+        List<SalaryStats> stats = employeeStatistics.stats("position".equals(groupBy));
+        Map<String, Object> response = Map.of(
+                "groupBy", groupBy,
+                "stats", stats,
+                "headcount", stats.stream().mapToLong(SalaryStats::headcount).sum()
+        );
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "Salary percentiles", description = "Managers/Admins get p25/p50/p75/p90 salary per " +
+            "department (or per department and position with groupBy=position) and for the whole organisation. " +
+            "Values come from quantile sketches and are within relativeAccuracy of the exact percentile")
+    @ApiResponse(responseCode = "200", description = "Percentiles per group")
+    @ApiResponse(responseCode = "400", description = "Unknown groupBy")
+    @GetMapping("/stats/percentiles")
+    public ResponseEntity<Map<String, Object>> salaryPercentiles(
+            @RequestParam(defaultValue = AppConstants.SORT_BY_DEPARTMENT) String groupBy
+    ) {
+        if (!AppConstants.SORT_BY_DEPARTMENT.equals(groupBy) && !"position".equals(groupBy)) {
+            throw new InvalidParameterException("groupBy must be department or position");
+        }
+        Map<String, Object> response = Map.of(
+                "groupBy", groupBy,
+                "relativeAccuracy", employeeStatistics.percentileAccuracy(),
+                "overall", employeeStatistics.overallPercentiles(),
+                "percentiles", employeeStatistics.percentiles("position".equals(groupBy))
+        );
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "Employee analytics", description = "Managers/Admins get headcount, active headcount and " +
+            "total and average salary per department, position, hireYear or skill (groupBy=none for one total) " +
+            "under the search filters. Served from the in-memory columnar replica once it is built, otherwise by " +
+            "one grouped query; skill grouping needs the replica")
+    @ApiResponse(responseCode = "200", description = "Aggregates per group")
+    @ApiResponse(responseCode = "400", description = "Unknown groupBy or inverted range")
+    @ApiResponse(responseCode = "404", description = "Unknown department or position")
+    @GetMapping("/analytics")
+    public ResponseEntity<Map<String, Object>> analytics(
+            @RequestParam(defaultValue = AppConstants.SORT_BY_DEPARTMENT) String groupBy,
+            @RequestParam(required = false) List<String> department,
+            @RequestParam(required = false) List<String> position,
+            @RequestParam(required = false) BigDecimal salary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+            @RequestParam(required = false) Boolean active
     ) {
-        List<EmployeeResponse> results = employeeService.filterEmployees(department, position, salary);
+        EmployeeAggregate.GroupBy grouping = EmployeeAggregate.GroupBy.fromParameter(groupBy);
+        if (grouping == null) {
+            throw new InvalidParameterException("groupBy must be one of " + Arrays.stream(EmployeeAggregate.GroupBy.values())
+                    .map(EmployeeAggregate.GroupBy::parameter).toList());
+        }
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(department, position, salary, maxSalary,
+                hiredFrom, hiredTo, active);
+        boolean columnar = columnarEmployees.isBuilt();
+        List<EmployeeAggregate> groups = columnar
+                ? columnarEmployees.aggregate(employeeService.resolve(criteria), grouping)
+                : employeeService.aggregate(criteria, grouping);
         Map<String, Object> response = Map.of(
-                "employees", results,
-                "count", results.size()
+                "groupBy", grouping.parameter(),
+                "source", columnar ? "columnar" : "database",
+                "groups", groups
         );
         return ResponseEntity.ok(response);
     }
 
 
-    @Operation(summary = "Export employees as JSON", description = "Admins/managers can export filtered list")
+    @Operation(summary = "Export employees", description = "Admins/managers can export filtered list as a JSON array, " +
+            "NDJSON or CSV (format= or Accept), compressed with gzip/deflate when the client advertises it")
+    @ApiResponse(responseCode = "200", description = "Export streamed")
+    @ApiResponse(responseCode = "400", description = "Unsupported format")
     @GetMapping("/download")
-    @PreAuthorize("@employeeSecurity.isAdminOrManager(authentication)")
-    public ResponseEntity<byte[]> exportEmployees(
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
             @RequestParam(required = false) String department,
             @RequestParam(required = false) String position,
-            @RequestParam(required = false) BigDecimal salary
-    ) throws JsonProcessingException {
-
-        List<EmployeeResponse> employees = employeeService.exportEmployees(department, position, salary);
-
-        ObjectMapper mapper = new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            @RequestParam(required = false) BigDecimal salary,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ExportFormat exportFormat = ExportFormat.negotiate(format, accept);
+        ExportEncoding encoding = ExportEncoding.negotiate(acceptEncoding);
 
-        byte[] jsonBytes = mapper.writeValueAsBytes(employees);
+        // Served from the snapshot cache when unchanged, otherwise written row by row as the query streams
+        StreamingResponseBody body = out ->
+                exportSnapshotCache.write(exportFormat, encoding, department, position, salary, out);
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentDisposition(ContentDisposition.attachment().filename("employees.json").build());
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("employees." + exportFormat.extension()).build());
+        headers.setContentType(exportFormat == ExportFormat.CSV
+                ? new MediaType(exportFormat.mediaType(), StandardCharsets.UTF_8)
+                : exportFormat.mediaType());
+        headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+        if (encoding.contentEncoding() != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, encoding.contentEncoding());
+        }
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(jsonBytes);
+                .body(body);
+    }
+
+    @Operation(summary = "Start an export job", description = "Admins/managers can export in the background to a " +
+            "spool file that is downloaded later; takes the same filters and formats as /download")
+    @ApiResponse(responseCode = "202", description = "Export job accepted")
+    @ApiResponse(responseCode = "503", description = "Export queue is full")
+    @PostMapping("/exports")
+    public ResponseEntity<Map<String, Object>> startExport(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) BigDecimal salary,
+            @RequestParam(required = false) String format,
+            Authentication authentication
+    ) {
+        ExportJob job = exportJobService.submit(authentication.getName(), ExportFormat.negotiate(format, null),
+                department, position, salary);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/exports/" + job.getId()))
+                .body(toStatus(job));
     }
 
-    @Operation(summary = "Update employee", description = "Self or manager-only update")
+    @Operation(summary = "Export job status", description = "Progress of an export started by the caller")
+    @GetMapping("/exports/{jobId}")
+    public ResponseEntity<Map<String, Object>> exportStatus(@PathVariable String jobId, Authentication authentication) {
+        return ResponseEntity.ok(toStatus(exportJobService.find(jobId, authentication.getName())));
+    }
+
+    @Operation(summary = "Download an export file", description = "Serves a finished export; supports Range requests " +
+            "so interrupted downloads resume without re-running the query")
+    @ApiResponse(responseCode = "206", description = "Partial content")
+    @ApiResponse(responseCode = "416", description = "Range not satisfiable")
+    @ApiResponse(responseCode = "410", description = "The export has expired and its file was removed")
+    @GetMapping("/exports/{jobId}/file")
+    public void downloadExport(@PathVariable String jobId, Authentication authentication,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // The lease keeps the sweeper off the file until well after a sendfile transfer has finished
+        ExportJob job = exportJobService.leaseDownload(jobId, authentication.getName());
+        Path file = job.getFile();
+        long length;
+        try {
+            length = Files.size(file);
+        } catch (NoSuchFileException e) {
+            throw new ExportExpiredException("Export " + jobId + " has expired, please start a new one");
+        }
+        String etag = "\"" + job.getId() + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("employees-" + job.getId() + "." + job.getFormat().extension()).build().toString());
+        response.setContentType(job.getFormat().mediaType().toString());
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // A stale If-Range validator means "send the whole file"; multi-range requests are also answered in full
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.getFirst().getRangeStart(length);
+                    end = ranges.getFirst().getRangeEnd(length);
+                    if (start >= length || end < start) {
+                        throw new IllegalArgumentException("Range outside the file");
+                    }
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+        response.setContentLengthLong(end - start + 1);
+
+        // Tomcat's sendfile hands the region to FileChannel.transferTo on the socket itself (zero-copy)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, target);
+            }
+        }
+    }
+
+    /**
+     * Strong validator over the parts that determine a response body.
+     */
+    private static String etag(Object... parts) {
+        return "\"" + DigestUtils.md5DigestAsHex(Arrays.toString(parts).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private Map<String, Object> toStatus(ExportJob job) {
+        Map<String, Object> status = new HashMap<>();
+        status.put("jobId", job.getId());
+        status.put("status", job.getStatus());
+        status.put("format", job.getFormat().extension());
+        status.put("rowsWritten", job.getRowsWritten().get());
+        status.put("totalRows", job.getTotalRows() < 0 ? null : job.getTotalRows());
+        status.put("progress", job.progress());
+        status.put("sizeBytes", job.getSizeBytes() < 0 ? null : job.getSizeBytes());
+        status.put("createdAt", job.getCreatedAt());
+        status.put("completedAt", job.getCompletedAt());
+        status.put("error", job.getError());
+        status.put("downloadUrl", job.getStatus() == ExportJob.Status.COMPLETED
+                ? "/api/employees/exports/" + job.getId() + "/file" : null);
+        return status;
+    }
+
+    @Operation(summary = "Update employee", description = "Self or manager-only update of the employee record; " +
+            "the login's password and active flag are left alone")
     @PutMapping("/id/{employeeId}")
-    @PreAuthorize("@employeeSecurity.isAdminOrManagerOrSelf(authentication, #employeeId)")
     public ResponseEntity<Map<String, Object>> updateEmployee(
             @Valid @RequestBody EmployeeRequest employeeRequest,
             @PathVariable String employeeId
@@ -144,9 +462,22 @@ public class EmployeeRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Update login", description = "The employee or an admin can set a new password and/or the " +
+            "active flag; logins verified before the change are dropped")
+    @ApiResponse(responseCode = "200", description = "Login updated")
+    @ApiResponse(responseCode = "400", description = "Neither field given, or password too weak")
+    @ApiResponse(responseCode = "403", description = "Unauthorized")
+    @PutMapping("/id/{employeeId}/account")
+    public ResponseEntity<Map<String, Object>> updateAccount(
+            @Valid @RequestBody AccountRequest accountRequest,
+            @PathVariable String employeeId
+    ) {
+        employeeService.updateAccount(employeeId, accountRequest);
+        return ResponseEntity.ok(Map.of("employeeId", employeeId, "detail", "Login updated successfully"));
+    }
+
     @Operation(summary = "Create employee", description = "Only admins can create new employees")
     @PostMapping
-    @PreAuthorize("@employeeSecurity.isAdmin(authentication)")
     public ResponseEntity<Map<String, Object>> createEmployee(
             @Valid @RequestBody EmployeeRequest employeeRequest
     ) {
@@ -160,7 +491,6 @@ public class EmployeeRestController {
 
     @Operation(summary = "Delete employee", description = "Only admins can delete employee records")
     @DeleteMapping("/id/{employeeId}")
-    @PreAuthorize("@employeeSecurity.isAdmin(authentication)")
     public ResponseEntity<Map<String, Object>> deleteEmployee(@PathVariable String employeeId) {
 
         EmployeeResponse deleted = employeeService.deleteByEmployeeId(employeeId);
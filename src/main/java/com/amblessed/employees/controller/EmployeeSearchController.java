@@ -0,0 +1,141 @@
+package com.amblessed.employees.controller;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.search.FuzzyNameIndex;
+import com.amblessed.employees.search.NameIndex;
+import com.amblessed.employees.search.ReviewIndex;
+import com.amblessed.employees.search.SkillIndex;
+import com.amblessed.employees.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+
+
+@Tag(name = "Employee Search API", description = "Search backed by in-memory indexes")
+
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+public class EmployeeSearchController {
+
+    private final EmployeeService employeeService;
+    private final ReviewIndex reviewIndex;
+    private final SkillIndex skillIndex;
+    private final NameIndex nameIndex;
+    private final FuzzyNameIndex fuzzyNameIndex;
+
+    @Operation(summary = "Search performance reviews", description = "Managers/Admins can run keyword search over " +
+            "performance reviews, ranked by BM25")
+    @ApiResponse(responseCode = "200", description = "Ranked matches")
+    @ApiResponse(responseCode = "400", description = "Empty query or page beyond the result window")
+    @GetMapping("/search/reviews")
+    public ResponseEntity<Map<String, Object>> searchReviews(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        ReviewIndex.Hits hits = reviewIndex.search(q, page, size);
+        List<String> ids = hits.hits().stream().map(ReviewIndex.Hit::employeeId).toList();
+        Map<String, Double> scores = new HashMap<>();
+        hits.hits().forEach(hit -> scores.put(hit.employeeId(), hit.score()));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (EmployeeResponse employee : employeeService.findByEmployeeIds(ids)) {
+            results.add(Map.of("employee", employee, "score", scores.get(employee.getEmployeeId())));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("results", results);
+        response.put("query", q);
+        response.put("currentPage", page);
+        response.put("size", size);
+        response.put("totalHits", hits.totalHits());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Search by skills", description = "Managers/Admins can find employees having all, any and " +
+            "none of comma-separated skill lists, answered from per-skill bitmaps")
+    @ApiResponse(responseCode = "200", description = "Matching employees")
+    @ApiResponse(responseCode = "400", description = "No skill list given")
+    @GetMapping("/search/skills")
+    public ResponseEntity<Map<String, Object>> searchSkills(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        SkillIndex.Matches matches = skillIndex.search(orEmpty(all), orEmpty(any), orEmpty(none), page, size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("employees", employeeService.findByEmployeeIds(matches.employeeIds()));
+        response.put("currentPage", page);
+        response.put("size", size);
+        response.put("totalElements", matches.total());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Skill dictionary", description = "Known skills with the number of employees having each")
+    @GetMapping("/search/skills/dictionary")
+    public ResponseEntity<Map<String, Object>> skillDictionary() {
+        return ResponseEntity.ok(Map.of("skills", skillIndex.dictionary()));
+    }
+
+    @Operation(summary = "Fuzzy name search", description = "Managers/Admins can search first name, last name and " +
+            "email with typos tolerated; every word must match within its edit budget, closest matches first")
+    @ApiResponse(responseCode = "200", description = "Matches ranked by edit distance")
+    @ApiResponse(responseCode = "400", description = "Empty query or page beyond the result window")
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<Map<String, Object>> searchFuzzy(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        FuzzyNameIndex.Hits hits = fuzzyNameIndex.search(q, page, size);
+        List<String> ids = hits.hits().stream().map(FuzzyNameIndex.Hit::employeeId).toList();
+        Map<String, Integer> distances = new HashMap<>();
+        hits.hits().forEach(hit -> distances.put(hit.employeeId(), hit.distance()));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (EmployeeResponse employee : employeeService.findByEmployeeIds(ids)) {
+            results.add(Map.of("employee", employee, "distance", distances.get(employee.getEmployeeId())));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("results", results);
+        response.put("query", q);
+        response.put("currentPage", page);
+        response.put("size", size);
+        response.put("totalHits", hits.totalHits());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Suggest employee names", description = "Managers/Admins get name completions for a " +
+            "prefix of the first or last name, served from an in-memory sorted name index")
+    @ApiResponse(responseCode = "200", description = "Completions in alphabetical order")
+    @ApiResponse(responseCode = "400", description = "Blank prefix or limit out of range")
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, Object>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return ResponseEntity.ok(Map.of("prefix", prefix, "suggestions", nameIndex.suggest(prefix, limit)));
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values == null ? List.of() : values.stream().filter(value -> !value.isBlank()).toList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * Changes to an employee's login. Either field may be left out; at least one must be given.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRequest {
+
+    @Size(min = 8, message = "Password must be at least 8 Characters long")
+    private String password;
+
+    private Boolean active;
+}
@@ -0,0 +1,18 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.util.List;
+
+/**
+ * One keyset page. {@code nextCursor} is null when {@code hasNext} is false.
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+}
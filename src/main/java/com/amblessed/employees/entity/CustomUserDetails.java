@@ -19,25 +19,28 @@ import java.util.List;
 public class CustomUserDetails implements UserDetails {
 
 
-    private final User user;
+    private final UserCredentials credentials;
+    private final List<GrantedAuthority> authorities;
 
-    public CustomUserDetails(User user) {
-        this.user = user;
+    public CustomUserDetails(UserCredentials credentials) {
+        this.credentials = credentials;
+        this.authorities = credentials.userRole() == null ? List.of()
+                : List.of(new SimpleGrantedAuthority(credentials.userRole()));
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().getUserRole()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return credentials.password();
     }
 
     @Override
     public String getUsername() {
-        return user.getUserId(); // or user.getEmail() if preferred
+        return credentials.userId(); // or user.getEmail() if preferred
     }
 
     @Override
@@ -57,6 +60,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.isActive(); // maps your 'active' field
+        return credentials.active(); // maps your 'active' field
     }
 }
@@ -0,0 +1,16 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+/**
+ * Number of employees holding one (department, position) pair, as returned by a grouped count.
+ */
+public record DepartmentPositionCount(String department, String position, long count) {
+}
@@ -18,7 +18,12 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        // Keyset paging: one index per sort tuple, each ending in user_id as the tie-breaker
+        @Index(name = "idx_employees_first_last_user", columnList = "first_name, last_name, user_id"),
+        @Index(name = "idx_employees_last_first_user", columnList = "last_name, first_name, user_id"),
+        @Index(name = "idx_employees_dept_first_last_user", columnList = "department, first_name, last_name, user_id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 public class Employee {
@@ -0,0 +1,56 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Headcount, active headcount and salary total of the employees in one group of an analytical scan;
+ * {@code key} is the department, position, hire year or skill, and null when nothing is grouped.
+ */
+public record EmployeeAggregate(String key, long headcount, long activeHeadcount, BigDecimal totalSalary,
+                                BigDecimal averageSalary) {
+
+    public EmployeeAggregate(String key, long headcount, long activeHeadcount, BigDecimal totalSalary) {
+        this(key, headcount, activeHeadcount, totalSalary,
+                headcount == 0 ? null : totalSalary.divide(BigDecimal.valueOf(headcount), 2, RoundingMode.HALF_UP));
+    }
+
+    public enum GroupBy {
+        NONE("none"),
+        DEPARTMENT("department"),
+        POSITION("position"),
+        HIRE_YEAR("hireYear"),
+        SKILL("skill");
+
+        private final String parameter;
+
+        GroupBy(String parameter) {
+            this.parameter = parameter;
+        }
+
+        public String parameter() {
+            return parameter;
+        }
+
+        /**
+         * The grouping named by a request parameter, or null if there is none by that name.
+         */
+        public static GroupBy fromParameter(String parameter) {
+            for (GroupBy groupBy : values()) {
+                if (groupBy.parameter.equals(parameter)) {
+                    return groupBy;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.exception.InvalidParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque keyset cursor: the sort it belongs to plus the sort-key tuple and employee id of the last row returned.
+ * Clients only ever see the form produced by {@link #encode()}: every component Base64url-encoded on its own and
+ * joined with dots, which cannot occur inside an encoded component whatever characters a sort value holds.
+ */
+public record EmployeeCursor(String sortBy, String direction, List<String> values, String employeeId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        List<String> components = new ArrayList<>(values.size() + 3);
+        components.add(sortBy);
+        components.add(direction);
+        components.addAll(values);
+        components.add(employeeId);
+        return components.stream()
+                .map(component -> ENCODER.encodeToString(component.getBytes(StandardCharsets.UTF_8)))
+                .collect(Collectors.joining("."));
+    }
+
+    public static EmployeeCursor decode(String cursor) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length < 4) {
+            throw new InvalidParameterException("Malformed cursor");
+        }
+        try {
+            List<String> components = Arrays.stream(parts)
+                    .map(part -> new String(DECODER.decode(part), StandardCharsets.UTF_8))
+                    .toList();
+            return new EmployeeCursor(components.get(0), components.get(1),
+                    components.subList(2, components.size() - 1), components.getLast());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Malformed cursor");
+        }
+    }
+}
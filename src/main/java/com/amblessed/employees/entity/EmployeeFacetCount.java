@@ -0,0 +1,17 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+/**
+ * One group of the facet query: employees sharing a department, position, active flag and salary band,
+ * where {@code salaryBand} indexes the configured band boundaries.
+ */
+public record EmployeeFacetCount(String department, String position, Boolean active, Integer salaryBand, long count) {
+}
@@ -0,0 +1,61 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Counts per department, position, active flag and salary band for one filter. Every band is listed,
+ * empty ones with zero; the other facets only list values that occur.
+ */
+public record EmployeeFacets(Map<String, Long> departments, Map<String, Long> positions,
+                             Map<String, Long> active, Map<String, Long> salaryBands) {
+
+    /**
+     * Rolls the grouped rows up into one map per facet.
+     *
+     * @param bounds ascending band boundaries; band {@code i} is below {@code bounds[i]}, the last is at or above all
+     */
+    public static EmployeeFacets of(List<EmployeeFacetCount> rows, List<BigDecimal> bounds) {
+        Map<String, Long> departments = new TreeMap<>();
+        Map<String, Long> positions = new TreeMap<>();
+        Map<String, Long> active = new TreeMap<>();
+        List<String> labels = bandLabels(bounds);
+        Map<String, Long> bands = new LinkedHashMap<>();
+        labels.forEach(label -> bands.put(label, 0L));
+        for (EmployeeFacetCount row : rows) {
+            departments.merge(row.department(), row.count(), Long::sum);
+            positions.merge(row.position(), row.count(), Long::sum);
+            active.merge(String.valueOf(row.active()), row.count(), Long::sum);
+            if (row.salaryBand() != null) {
+                bands.merge(labels.get(row.salaryBand()), row.count(), Long::sum);
+            }
+        }
+        return new EmployeeFacets(departments, positions, active, bands);
+    }
+
+    /**
+     * "&lt;50000", "50000-75000", ..., "150000+".
+     */
+    static List<String> bandLabels(List<BigDecimal> bounds) {
+        List<String> labels = new ArrayList<>(bounds.size() + 1);
+        for (int i = 0; i <= bounds.size(); i++) {
+            if (i == 0) {
+                labels.add("<" + bounds.getFirst().toPlainString());
+            } else if (i == bounds.size()) {
+                labels.add(bounds.getLast().toPlainString() + "+");
+            } else {
+                labels.add(bounds.get(i - 1).toPlainString() + "-" + bounds.get(i).toPlainString());
+            }
+        }
+        return labels;
+    }
+}
@@ -9,6 +9,7 @@ package com.amblessed.employees.entity;
  */
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,7 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 
 @Setter
@@ -36,4 +38,14 @@ public class EmployeeResponse {
     private String performanceReview;
     private String skills;
     private Boolean active;
+    @JsonIgnore
+    private LocalDateTime updatedAt; // validator for ETags, not part of the payload
+
+    /**
+     * Every field is immutable, so a shallow copy is an independent one.
+     */
+    public EmployeeResponse copy() {
+        return new EmployeeResponse(employeeId, firstName, lastName, email, phoneNumber, department, position, salary,
+                hireDate, performanceReview, skills, active, updatedAt);
+    }
 }
@@ -0,0 +1,52 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters of an employee search. Empty lists and null bounds mean "no restriction"; values within a list
+ * are OR-ed, and the filters are AND-ed together. Ranges are inclusive.
+ */
+public record EmployeeSearchCriteria(List<String> departments, List<String> positions,
+                                     BigDecimal minSalary, BigDecimal maxSalary,
+                                     LocalDate hiredFrom, LocalDate hiredTo, Boolean active) {
+
+    public EmployeeSearchCriteria {
+        departments = departments == null ? List.of() : departments.stream().distinct().toList();
+        positions = positions == null ? List.of() : positions.stream().distinct().toList();
+    }
+
+    /**
+     * The single department / position / minimum salary filter used by exports and counts.
+     */
+    public static EmployeeSearchCriteria of(String department, String position, BigDecimal salary) {
+        return new EmployeeSearchCriteria(department == null ? null : List.of(department),
+                position == null ? null : List.of(position), salary, null, null, null, null);
+    }
+
+    public EmployeeSearchCriteria withValues(List<String> departments, List<String> positions) {
+        return new EmployeeSearchCriteria(departments, positions, minSalary, maxSalary, hiredFrom, hiredTo, active);
+    }
+
+    /**
+     * Canonical form for cache keys and ETags: list order and trailing salary zeros do not matter.
+     */
+    public String key() {
+        return departments.stream().sorted().toList() + "|" + positions.stream().sorted().toList() + "|"
+                + plain(minSalary) + "|" + plain(maxSalary) + "|" + hiredFrom + "|" + hiredTo + "|" + active;
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros().toPlainString();
+    }
+}
@@ -9,9 +9,14 @@ package com.amblessed.employees.entity;
  */
 
 
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public class EmployeeSpecification {
 
@@ -30,4 +35,82 @@ public class EmployeeSpecification {
                 salary == null ? null : cb.greaterThanOrEqualTo(root.get("salary"), salary);
     }
 
+    public static Specification<Employee> hasDepartmentIn(Collection<String> departments) {
+        return (root, query, cb) -> departments.isEmpty() ? null
+                : departments.size() == 1 ? cb.equal(root.get("department"), departments.iterator().next())
+                : root.get("department").in(departments);
+    }
+
+    public static Specification<Employee> hasPositionIn(Collection<String> positions) {
+        return (root, query, cb) -> positions.isEmpty() ? null
+                : positions.size() == 1 ? cb.equal(root.get("position"), positions.iterator().next())
+                : root.get("position").in(positions);
+    }
+
+    public static Specification<Employee> hasSalaryAtMost(BigDecimal salary) {
+        return (root, query, cb) ->
+                salary == null ? null : cb.lessThanOrEqualTo(root.get("salary"), salary);
+    }
+
+    public static Specification<Employee> hiredOnOrAfter(LocalDate date) {
+        return (root, query, cb) ->
+                date == null ? null : cb.greaterThanOrEqualTo(root.get("hireDate"), date);
+    }
+
+    public static Specification<Employee> hiredOnOrBefore(LocalDate date) {
+        return (root, query, cb) ->
+                date == null ? null : cb.lessThanOrEqualTo(root.get("hireDate"), date);
+    }
+
+    public static Specification<Employee> isActive(Boolean active) {
+        return (root, query, cb) ->
+                active == null ? null : active ? cb.isTrue(root.get("active")) : cb.isFalse(root.get("active"));
+    }
+
+    /**
+     * All of the criteria's filters as one predicate tree; unset filters contribute nothing.
+     */
+    public static Specification<Employee> matching(EmployeeSearchCriteria criteria) {
+        return Specification.allOf(
+                hasDepartmentIn(criteria.departments()),
+                hasPositionIn(criteria.positions()),
+                hasSalary(criteria.minSalary()),
+                hasSalaryAtMost(criteria.maxSalary()),
+                hiredOnOrAfter(criteria.hiredFrom()),
+                hiredOnOrBefore(criteria.hiredTo()),
+                isActive(criteria.active()));
+    }
+
+    public static Specification<Employee> hasUserId(String userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+
+    public static Specification<Employee> hasUserIdIn(Collection<String> userIds) {
+        return (root, query, cb) -> root.get("user").get("userId").in(userIds);
+    }
+
+    /**
+     * Seek predicate for keyset paging: rows strictly after {@code (values..., userId)} in the given sort order,
+     * i.e. {@code a > x OR (a = x AND (b > y OR (b = y AND userId > z)))}. The redundant leading {@code a >= x}
+     * lets the database range-scan the matching index instead of evaluating the OR on every row.
+     */
+    public static Specification<Employee> seekAfter(List<String> attributes, List<String> values, String userId, boolean ascending) {
+        return (root, query, cb) -> {
+            Path<String> idPath = root.get("user").get("userId");
+            Predicate tail = ascending ? cb.greaterThan(idPath, userId) : cb.lessThan(idPath, userId);
+            for (int i = attributes.size() - 1; i >= 0; i--) {
+                Path<String> path = root.get(attributes.get(i));
+                String value = values.get(i);
+                Predicate beyond = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+                tail = cb.or(beyond, cb.and(cb.equal(path, value), tail));
+            }
+            if (attributes.isEmpty()) {
+                return tail;
+            }
+            Path<String> leading = root.get(attributes.getFirst());
+            String first = values.getFirst();
+            return cb.and(ascending ? cb.greaterThanOrEqualTo(leading, first) : cb.lessThanOrEqualTo(leading, first), tail);
+        };
+    }
+
 }
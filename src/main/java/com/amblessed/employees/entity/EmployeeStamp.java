@@ -0,0 +1,19 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest {@code updatedAt} of a filtered result; changes whenever a row in it is
+ * added, removed or updated. {@code lastUpdated} is null for an empty result.
+ */
+public record EmployeeStamp(long count, LocalDateTime lastUpdated) {
+}
@@ -0,0 +1,15 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+
+public record PositionSalary(String position, BigDecimal salary) {
+}
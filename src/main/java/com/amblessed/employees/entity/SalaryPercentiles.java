@@ -0,0 +1,20 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Approximate salary percentiles ("p25" ... "p90") of a department, of one position within it, or of the
+ * whole organisation when both names are null.
+ */
+public record SalaryPercentiles(String department, String position, long headcount, Map<String, BigDecimal> percentiles) {
+}
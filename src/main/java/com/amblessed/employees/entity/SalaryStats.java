@@ -0,0 +1,36 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Headcount and salary aggregates of one department, or of one position within it when {@code position} is set.
+ */
+public record SalaryStats(String department, String position, long headcount, BigDecimal total,
+                          BigDecimal average, BigDecimal min, BigDecimal max) {
+
+    public SalaryStats(String department, String position, long headcount, BigDecimal total, BigDecimal min, BigDecimal max) {
+        this(department, position, headcount, total,
+                headcount == 0 ? null : total.divide(BigDecimal.valueOf(headcount), 2, RoundingMode.HALF_UP), min, max);
+    }
+
+    /**
+     * Same totals, compared by value so {@code 50000} and {@code 50000.00} agree.
+     */
+    public boolean sameTotals(SalaryStats other) {
+        return headcount == other.headcount && equal(total, other.total) && equal(min, other.min) && equal(max, other.max);
+    }
+
+    private static boolean equal(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
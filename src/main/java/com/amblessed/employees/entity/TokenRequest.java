@@ -0,0 +1,27 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TokenRequest {
+
+    @NotBlank(message = "User ID is required")
+    private String userId;
+
+    @NotBlank(message = "Password is required")
+    private String password;
+}
@@ -0,0 +1,16 @@
+package com.amblessed.employees.entity;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+/**
+ * What a login needs to know about a system user; {@code userRole} is null for a user without a role.
+ */
+public record UserCredentials(String userId, String password, boolean active, String userRole) {
+}
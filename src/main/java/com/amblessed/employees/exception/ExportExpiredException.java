@@ -0,0 +1,20 @@
+package com.amblessed.employees.exception;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+/**
+ * The export finished, but its file has since been swept; the client has to start a new export (410).
+ */
+public class ExportExpiredException extends RuntimeException {
+
+    public ExportExpiredException(String message) {
+        super(message);
+    }
+}
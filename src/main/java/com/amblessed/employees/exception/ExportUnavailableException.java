@@ -0,0 +1,20 @@
+package com.amblessed.employees.exception;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+/**
+ * The export job queue is full; the client should retry later (503).
+ */
+public class ExportUnavailableException extends RuntimeException {
+
+    public ExportUnavailableException(String message) {
+        super(message);
+    }
+}
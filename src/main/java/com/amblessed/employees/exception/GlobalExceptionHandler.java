@@ -12,9 +12,12 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -44,7 +47,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler({ConstraintViolationException.class, MethodArgumentNotValidException.class,
-            SQLIntegrityConstraintViolationException.class, HandlerMethodValidationException.class, InvalidPasswordException.class})
+            SQLIntegrityConstraintViolationException.class, HandlerMethodValidationException.class, InvalidPasswordException.class,
+            InvalidParameterException.class})
     public ProblemDetail handleException(Exception exception) {
         Map<String, Object> map = new HashMap<>();
         map.put("timestamp", LocalDateTime.now().toString());
@@ -131,6 +135,69 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(AuthenticationException.class)
+    public ProblemDetail handleAuthenticationException(AuthenticationException exception) {
+        ProblemDetail problemDetail = createProblemDetail(exception, HttpStatus.UNAUTHORIZED);
+        problemDetail.setDetail("Invalid user ID or password.");
+        return problemDetail;
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleLoginThrottled(LoginThrottledException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(createThrottledProblemDetail(exception));
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handlePasswordHashingUnavailable(PasswordHashingUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(createServiceUnavailableProblemDetail(exception));
+    }
+
+    @ExceptionHandler(ExportExpiredException.class)
+    public ProblemDetail handleExportExpired(ExportExpiredException exception) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("timestamp", LocalDateTime.now().toString());
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.GONE);
+        problemDetail.setType(COMMON_ERROR_URI);
+        problemDetail.setTitle(HttpStatus.GONE.getReasonPhrase());
+        problemDetail.setDetail(exception.getMessage());
+        problemDetail.setProperties(map);
+        return problemDetail;
+    }
+
+    @ExceptionHandler(ExportUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleExportUnavailable(ExportUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(createServiceUnavailableProblemDetail(exception));
+    }
+
+    public ProblemDetail createServiceUnavailableProblemDetail(Exception exception) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("timestamp", LocalDateTime.now().toString());
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problemDetail.setType(COMMON_ERROR_URI);
+        problemDetail.setTitle(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+        problemDetail.setDetail(exception.getMessage());
+        problemDetail.setProperties(map);
+        return problemDetail;
+    }
+
+    public ProblemDetail createThrottledProblemDetail(LoginThrottledException exception) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("timestamp", LocalDateTime.now().toString());
+        map.put("retryAfterSeconds", exception.getRetryAfterSeconds());
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        problemDetail.setType(COMMON_ERROR_URI);
+        problemDetail.setTitle(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+        problemDetail.setDetail(exception.getMessage());
+        problemDetail.setProperties(map);
+        return problemDetail;
+    }
+
     public void writeProblemDetail(HttpServletResponse response, ProblemDetail detail) throws IOException {
         response.setContentType("application/json");
         response.setStatus(detail.getStatus());
@@ -0,0 +1,22 @@
+package com.amblessed.employees.exception;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Raised when a request presents a bearer token that is malformed, forged or expired.
+ */
+public class InvalidAccessTokenException extends AuthenticationException {
+
+    public InvalidAccessTokenException(String message) {
+        super(message);
+    }
+}
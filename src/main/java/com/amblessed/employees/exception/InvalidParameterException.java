@@ -0,0 +1,17 @@
+package com.amblessed.employees.exception;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+public class InvalidParameterException extends RuntimeException {
+
+    public InvalidParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.amblessed.employees.exception;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Raised before password verification when a client or user id has used up its login attempts.
+ */
+@Getter
+public class LoginThrottledException extends AuthenticationException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
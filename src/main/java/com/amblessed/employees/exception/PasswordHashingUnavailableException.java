@@ -0,0 +1,23 @@
+package com.amblessed.employees.exception;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * The password hashing executor is saturated. Extends {@link InternalAuthenticationServiceException}
+ * so a login hitting it is failed at once instead of being retried by a parent AuthenticationManager.
+ */
+public class PasswordHashingUnavailableException extends InternalAuthenticationServiceException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
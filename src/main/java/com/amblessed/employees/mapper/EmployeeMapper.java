@@ -20,6 +20,16 @@ public class EmployeeMapper {
         return employeeRequest == null ? null : mapFields(employeeRequest, new Employee());
     }
 
+    /**
+     * Copies the request fields onto an existing (managed) Employee, leaving its id and user untouched.
+     *
+     * @param employeeRequest the request holding the new values
+     * @param employee the employee to update
+     */
+    public void updateEmployee(EmployeeRequest employeeRequest, Employee employee) {
+        mapFields(employeeRequest, employee);
+    }
+
     /**
      * Converts an Employee to an EmployeeRequest.
      *
@@ -9,7 +9,10 @@ package com.amblessed.employees.repository;
  */
 
 
+import com.amblessed.employees.entity.DepartmentPositionCount;
 import com.amblessed.employees.entity.Employee;
+import com.amblessed.employees.entity.PositionSalary;
+import com.amblessed.employees.entity.SalaryStats;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -20,7 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
 
     Optional<Employee> findByEmail(String email);
     List<Employee> findByFirstName(String firstName);
@@ -37,6 +41,15 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
     @Query("DELETE FROM Employee e WHERE e.user.userId = :userId")
     void deleteByEmployeeId(@Param("userId") String userId);
 
-    boolean existsByDepartment(String department);
-    boolean existsByPosition(String position);
+    @Query("SELECT new com.amblessed.employees.entity.DepartmentPositionCount(e.department, e.position, COUNT(e)) " +
+            "FROM Employee e GROUP BY e.department, e.position")
+    List<DepartmentPositionCount> countByDepartmentAndPosition();
+
+    @Query("SELECT new com.amblessed.employees.entity.SalaryStats(e.department, e.position, COUNT(e), SUM(e.salary), " +
+            "MIN(e.salary), MAX(e.salary)) FROM Employee e GROUP BY e.department, e.position")
+    List<SalaryStats> salaryStats();
+
+    @Query("SELECT new com.amblessed.employees.entity.PositionSalary(e.position, e.salary) FROM Employee e " +
+            "WHERE e.department = :department")
+    List<PositionSalary> findPositionSalaries(@Param("department") String department);
 }
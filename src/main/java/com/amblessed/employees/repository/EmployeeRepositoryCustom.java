@@ -0,0 +1,65 @@
+package com.amblessed.employees.repository;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.Employee;
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeFacetCount;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.EmployeeStamp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Read queries that select straight into {@link EmployeeResponse}: one SQL statement each,
+ * no managed entities and no User/Role associations to initialise.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * One page plus a look-ahead row for {@code hasNext}; never issues a COUNT.
+     */
+    Slice<EmployeeResponse> findResponses(Specification<Employee> spec, Pageable pageable);
+
+    List<EmployeeResponse> findAllResponses(Specification<Employee> spec, Sort sort);
+
+    Optional<EmployeeResponse> findResponseByUserId(String userId);
+
+    /**
+     * Row count and latest update time of the filter's result, in one aggregate query.
+     */
+    EmployeeStamp stamp(Specification<Employee> spec);
+
+    /**
+     * Matching rows grouped by department, position, active flag and salary band, in one aggregate query.
+     * Band {@code i} holds salaries below {@code salaryBands[i]}; the last band holds the rest.
+     */
+    List<EmployeeFacetCount> facetCounts(Specification<Employee> spec, List<BigDecimal> salaryBands);
+
+    /**
+     * Headcount, active headcount and salary total of the matching rows per department, position or hire year
+     * (or over all of them for {@code NONE}), in one aggregate query. Skills are stored comma-joined and cannot
+     * be grouped here.
+     */
+    List<EmployeeAggregate> aggregate(Specification<Employee> spec, EmployeeAggregate.GroupBy groupBy);
+
+    /**
+     * Forward-only cursor over the matching rows, fetched {@code fetchSize} at a time.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<EmployeeResponse> streamResponses(Specification<Employee> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,223 @@
+package com.amblessed.employees.repository;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.Employee;
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeFacetCount;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.EmployeeSpecification;
+import com.amblessed.employees.entity.EmployeeStamp;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<EmployeeResponse> findResponses(Specification<Employee> spec, Pageable pageable) {
+        TypedQuery<EmployeeResponse> query = createQuery(spec, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<EmployeeResponse> rows = query.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<EmployeeResponse> findAllResponses(Specification<Employee> spec, Sort sort) {
+        return createQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public Optional<EmployeeResponse> findResponseByUserId(String userId) {
+        return createQuery(EmployeeSpecification.hasUserId(userId), Sort.unsorted())
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public EmployeeStamp stamp(Specification<Employee> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        Expression<Long> count = cb.count(root);
+        Expression<LocalDateTime> lastUpdated = cb.greatest(root.<LocalDateTime>get("updatedAt"));
+        query.multiselect(count, lastUpdated);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        return new EmployeeStamp(result.get(count), result.get(lastUpdated));
+    }
+
+    /**
+     * Band boundaries are inlined as literals, so the CASE built for the select list and the one built again for
+     * GROUP BY render as the same SQL expression.
+     */
+    @Override
+    public List<EmployeeFacetCount> facetCounts(Specification<Employee> spec, List<BigDecimal> salaryBands) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeFacetCount> query = cb.createQuery(EmployeeFacetCount.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.construct(EmployeeFacetCount.class, root.get("department"), root.get("position"),
+                root.get("active"), salaryBand(cb, root, salaryBands), cb.count(root)));
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.groupBy(grouping(root.get("department")), grouping(root.get("position")), grouping(root.get("active")),
+                salaryBand(cb, root, salaryBands));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static Expression<Integer> salaryBand(CriteriaBuilder cb, Root<Employee> root, List<BigDecimal> salaryBands) {
+        Path<BigDecimal> salary = root.get("salary");
+        CriteriaBuilder.Case<Integer> bands = cb.selectCase();
+        for (int i = 0; i < salaryBands.size(); i++) {
+            bands = bands.when(cb.lessThan(salary, cb.literal(salaryBands.get(i))), cb.literal(i));
+        }
+        return bands.otherwise(cb.literal(salaryBands.size()));
+    }
+
+    /**
+     * A GROUP BY or ORDER BY item that is the very node in the select list is rendered as its position
+     * ("group by 1") under dialects that allow it, PostgreSQL's among them, and H2 rejects that. A copy of the
+     * expression renders as the expression itself, which every database accepts.
+     */
+    private static Expression<?> grouping(Expression<?> expression) {
+        return expression.as(expression.getJavaType());
+    }
+
+    @Override
+    public List<EmployeeAggregate> aggregate(Specification<Employee> spec, EmployeeAggregate.GroupBy groupBy) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        Expression<Integer> active = cb.<Integer>selectCase()
+                .when(cb.isTrue(root.get("active")), cb.literal(1))
+                .otherwise(cb.literal(0));
+        List<Selection<?>> selections = new ArrayList<>(List.of(cb.count(root), cb.sum(active),
+                cb.sum(root.<BigDecimal>get("salary"))));
+        Expression<?> key = aggregateKey(cb, root, groupBy);
+        if (key != null) {
+            selections.add(key);
+            query.groupBy(grouping(key));
+            query.orderBy(cb.asc(grouping(key)));
+        }
+        query.multiselect(selections);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        List<EmployeeAggregate> result = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long headcount = ((Number) row.get(0)).longValue();
+            if (headcount > 0) {
+                result.add(new EmployeeAggregate(key == null ? null : String.valueOf(row.get(3)), headcount,
+                        ((Number) row.get(1)).longValue(), row.get(2, BigDecimal.class)));
+            }
+        }
+        return result;
+    }
+
+    private static Expression<?> aggregateKey(CriteriaBuilder cb, Root<Employee> root, EmployeeAggregate.GroupBy groupBy) {
+        return switch (groupBy) {
+            case NONE -> null;
+            case DEPARTMENT -> root.get("department");
+            case POSITION -> root.get("position");
+            // Hibernate's year() is rendered per dialect (extract on PostgreSQL); a JPA function() call is not
+            case HIRE_YEAR -> ((HibernateCriteriaBuilder) cb).year(root.get("hireDate"));
+            case SKILL -> throw new IllegalArgumentException("Skills cannot be grouped in SQL");
+        };
+    }
+
+    @Override
+    public Stream<EmployeeResponse> streamResponses(Specification<Employee> spec, Sort sort, int fetchSize) {
+        return createQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * {@code e.user.userId} resolves to the {@code user_id} foreign key column, so no join to system_users is emitted.
+     */
+    private TypedQuery<EmployeeResponse> createQuery(Specification<Employee> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeResponse> query = cb.createQuery(EmployeeResponse.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.construct(EmployeeResponse.class,
+                root.get("user").get("userId"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("email"),
+                root.get("phoneNumber"),
+                root.get("department"),
+                root.get("position"),
+                root.get("salary"),
+                root.get("hireDate"),
+                root.get("performanceReview"),
+                root.get("skills"),
+                root.get("active"),
+                root.get("updatedAt")));
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = path(root, order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+        return entityManager.createQuery(query);
+    }
+
+    private Path<?> path(Root<Employee> root, String property) {
+        Path<?> path = root;
+        for (String segment : property.split("\\.")) {
+            path = path.get(segment);
+        }
+        return path;
+    }
+}
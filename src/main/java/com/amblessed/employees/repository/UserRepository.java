@@ -10,15 +10,30 @@ package com.amblessed.employees.repository;
 
 
 import com.amblessed.employees.entity.User;
+import com.amblessed.employees.entity.UserCredentials;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, String> {
 
     Optional<User> findByEmail(String email);
     Optional<User> findByUserId(String userId);
     boolean existsByEmail(String email);
     boolean existsByUserId(String userId);
     void deleteByUserId(String userId);
+
+    /**
+     * One row with the user's login fields and role, never an entity, so the inverse one-to-one sides of
+     * {@link User} are not loaded. Served from the query cache until system_users or roles is written.
+     */
+    @Query("select new com.amblessed.employees.entity.UserCredentials(u.userId, u.password, u.active, r.userRole) "
+            + "from User u left join Role r on r.user = u where u.userId = :userId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserCredentials> findCredentials(@Param("userId") String userId);
 }
@@ -0,0 +1,360 @@
+package com.amblessed.employees.search;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.EmployeeSearchCriteria;
+import com.amblessed.employees.service.EmployeeService;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Column-oriented copy of the employees table for analytical scans (headcount and salary per department,
+ * position, hire year or skill under the search filters), answered without a database round trip.
+ * <p>
+ * Each attribute is a primitive array indexed by row: salary in cents, hire date as epoch day, department
+ * and position as dictionary codes, skills as arrays of codes, and live/active flags as bit sets. A query
+ * first folds every filter into a 0/1 selection vector, one column at a time, then adds
+ * {@code value * selected} into per-group accumulators. Neither loop branches on the data, so the JIT can
+ * unroll them and use SIMD for the compare and reduce steps. Rows freed by deletes are reused, and
+ * dictionary codes are only reclaimed by a rebuild.
+ */
+@Component
+public class ColumnarEmployees extends EmployeeIndex<ColumnarEmployees.Columns> {
+
+    private final boolean enabled;
+
+    public ColumnarEmployees(EmployeeService employeeService,
+                             @Value("${app.employees.columnar.enabled:true}") boolean enabled) {
+        super(employeeService);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Groups of the rows matching {@code criteria}, ordered by key; groups without matches are left out.
+     * Department and position values must already be in their canonical spelling.
+     */
+    public List<EmployeeAggregate> aggregate(EmployeeSearchCriteria criteria, EmployeeAggregate.GroupBy groupBy) {
+        return read(columns -> columns.aggregate(criteria, groupBy));
+    }
+
+    @Override
+    protected boolean enabled() {
+        return enabled;
+    }
+
+    @Override
+    protected Columns newState() {
+        return new Columns();
+    }
+
+    @Override
+    protected void upsert(Columns columns, EmployeeResponse employee) {
+        columns.put(employee);
+    }
+
+    @Override
+    protected void remove(Columns columns, String employeeId) {
+        columns.remove(employeeId);
+    }
+
+    static long cents(BigDecimal amount, RoundingMode rounding) {
+        return amount.setScale(2, rounding).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Dense codes for the distinct values of one column, in order of first appearance.
+     */
+    static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int code(String value) {
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        /**
+         * 1 at the code of each wanted value, 0 elsewhere; values never seen select nothing.
+         */
+        int[] mask(Collection<String> wanted) {
+            int[] mask = new int[values.size()];
+            for (String value : wanted) {
+                Integer code = codes.get(value);
+                if (code != null) {
+                    mask[code] = 1;
+                }
+            }
+            return mask;
+        }
+    }
+
+    static final class Columns {
+        private static final int INITIAL_ROWS = 1024;
+        private static final int NO_DAY = Integer.MIN_VALUE; // hire date missing
+        private static final int[] NO_SKILLS = new int[0];
+        private static final Comparator<EmployeeAggregate> BY_KEY =
+                Comparator.comparing(EmployeeAggregate::key, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final Dictionary departments = new Dictionary();
+        private final Dictionary positions = new Dictionary();
+        private final Dictionary skills = new Dictionary();
+        private final Map<String, Integer> rowByEmployee = new HashMap<>();
+        private final RoaringBitmap free = new RoaringBitmap();
+        private int rows; // high-water mark; rows below it that are not live are in free
+
+        private long[] salaryCents = new long[INITIAL_ROWS];
+        private int[] hireDay = new int[INITIAL_ROWS];
+        private int[] department = new int[INITIAL_ROWS];
+        private int[] position = new int[INITIAL_ROWS];
+        private int[][] skillCodes = new int[INITIAL_ROWS][];
+        private long[] live = new long[INITIAL_ROWS / 64];
+        private long[] active = new long[INITIAL_ROWS / 64];
+
+        void put(EmployeeResponse employee) {
+            Integer row = rowByEmployee.get(employee.getEmployeeId());
+            if (row == null) {
+                row = allocate(employee.getEmployeeId());
+            }
+            salaryCents[row] = employee.getSalary() == null ? 0 : cents(employee.getSalary(), RoundingMode.HALF_UP);
+            hireDay[row] = employee.getHireDate() == null ? NO_DAY : (int) employee.getHireDate().toEpochDay();
+            department[row] = departments.code(employee.getDepartment());
+            position[row] = positions.code(employee.getPosition());
+            skillCodes[row] = SkillIndex.parse(employee.getSkills()).stream().mapToInt(skills::code).distinct().toArray();
+            set(live, row, true);
+            set(active, row, Boolean.TRUE.equals(employee.getActive()));
+        }
+
+        void remove(String employeeId) {
+            Integer row = rowByEmployee.remove(employeeId);
+            if (row == null) {
+                return;
+            }
+            set(live, row, false);
+            set(active, row, false);
+            skillCodes[row] = NO_SKILLS;
+            free.add(row);
+        }
+
+        List<EmployeeAggregate> aggregate(EmployeeSearchCriteria criteria, EmployeeAggregate.GroupBy groupBy) {
+            int[] selected = select(criteria);
+            return switch (groupBy) {
+                case NONE -> total(selected);
+                case DEPARTMENT -> grouped(selected, department, departments.size(), departments::value);
+                case POSITION -> grouped(selected, position, positions.size(), positions::value);
+                case HIRE_YEAR -> byHireYear(selected);
+                case SKILL -> bySkill(selected);
+            };
+        }
+
+        /**
+         * 1 for every live row matching all filters, 0 otherwise, narrowed one column per pass.
+         */
+        private int[] select(EmployeeSearchCriteria criteria) {
+            int n = rows;
+            int[] selected = new int[n];
+            for (int i = 0; i < n; i++) {
+                selected[i] = bit(live, i);
+            }
+            if (!criteria.departments().isEmpty()) {
+                restrict(selected, department, departments.mask(criteria.departments()));
+            }
+            if (!criteria.positions().isEmpty()) {
+                restrict(selected, position, positions.mask(criteria.positions()));
+            }
+            if (criteria.active() != null) {
+                int wanted = criteria.active() ? 1 : 0;
+                for (int i = 0; i < n; i++) {
+                    selected[i] &= ~(bit(active, i) ^ wanted) & 1;
+                }
+            }
+            if (criteria.minSalary() != null || criteria.maxSalary() != null) {
+                long low = criteria.minSalary() == null ? Long.MIN_VALUE : cents(criteria.minSalary(), RoundingMode.CEILING);
+                long high = criteria.maxSalary() == null ? Long.MAX_VALUE : cents(criteria.maxSalary(), RoundingMode.FLOOR);
+                long[] salary = salaryCents;
+                for (int i = 0; i < n; i++) {
+                    selected[i] &= salary[i] >= low & salary[i] <= high ? 1 : 0;
+                }
+            }
+            if (criteria.hiredFrom() != null || criteria.hiredTo() != null) {
+                int low = criteria.hiredFrom() == null ? NO_DAY + 1 : (int) criteria.hiredFrom().toEpochDay();
+                int high = criteria.hiredTo() == null ? Integer.MAX_VALUE : (int) criteria.hiredTo().toEpochDay();
+                int[] day = hireDay;
+                for (int i = 0; i < n; i++) {
+                    selected[i] &= day[i] >= low & day[i] <= high ? 1 : 0;
+                }
+            }
+            return selected;
+        }
+
+        private static void restrict(int[] selected, int[] codes, int[] mask) {
+            for (int i = 0; i < selected.length; i++) {
+                selected[i] &= mask[codes[i]];
+            }
+        }
+
+        private List<EmployeeAggregate> total(int[] selected) {
+            long headcount = 0;
+            long activeHeadcount = 0;
+            long salary = 0;
+            for (int i = 0; i < selected.length; i++) {
+                int s = selected[i];
+                headcount += s;
+                activeHeadcount += bit(active, i) & s;
+                salary += salaryCents[i] * s;
+            }
+            return headcount == 0 ? List.of()
+                    : List.of(new EmployeeAggregate(null, headcount, activeHeadcount, BigDecimal.valueOf(salary, 2)));
+        }
+
+        /**
+         * Sums into the group at {@code group[i]}; index {@code groups} collects rows that belong to no group.
+         */
+        private List<EmployeeAggregate> grouped(int[] selected, int[] group, int groups,
+                                                IntFunction<String> key) {
+            long[] headcount = new long[groups + 1];
+            long[] activeHeadcount = new long[groups + 1];
+            long[] salary = new long[groups + 1];
+            for (int i = 0; i < selected.length; i++) {
+                int s = selected[i];
+                int g = group[i];
+                headcount[g] += s;
+                activeHeadcount[g] += bit(active, i) & s;
+                salary[g] += salaryCents[i] * s;
+            }
+            List<EmployeeAggregate> result = new ArrayList<>();
+            for (int g = 0; g < groups; g++) {
+                if (headcount[g] > 0) {
+                    result.add(new EmployeeAggregate(key.apply(g), headcount[g], activeHeadcount[g],
+                            BigDecimal.valueOf(salary[g], 2)));
+                }
+            }
+            result.sort(BY_KEY);
+            return result;
+        }
+
+        /**
+         * Maps each hire day to a year through a table spanning the stored dates, instead of building a
+         * {@link LocalDate} per row. Rows without a hire date fall into the discard group.
+         */
+        private List<EmployeeAggregate> byHireYear(int[] selected) {
+            int n = selected.length;
+            int first = Integer.MAX_VALUE;
+            int last = Integer.MIN_VALUE;
+            for (int i = 0; i < n; i++) {
+                int day = hireDay[i];
+                first = Math.min(first, day == NO_DAY ? Integer.MAX_VALUE : day);
+                last = Math.max(last, day);
+            }
+            if (first > last) {
+                return List.of();
+            }
+            int firstYear = LocalDate.ofEpochDay(first).getYear();
+            int years = LocalDate.ofEpochDay(last).getYear() - firstYear + 1;
+            int[] yearOfDay = new int[last - first + 1];
+            for (int y = 0; y < years; y++) {
+                int from = Math.max(first, (int) LocalDate.of(firstYear + y, 1, 1).toEpochDay());
+                int to = Math.min(last, (int) LocalDate.of(firstYear + y, 12, 31).toEpochDay());
+                Arrays.fill(yearOfDay, from - first, to - first + 1, y);
+            }
+            int[] group = new int[n];
+            for (int i = 0; i < n; i++) {
+                int day = hireDay[i];
+                group[i] = day == NO_DAY ? years : yearOfDay[day - first];
+            }
+            return grouped(selected, group, years, y -> String.valueOf(firstYear + y));
+        }
+
+        /**
+         * An employee counts once in every skill they list, so headcounts add up to more than the total.
+         */
+        private List<EmployeeAggregate> bySkill(int[] selected) {
+            int groups = skills.size();
+            long[] headcount = new long[groups];
+            long[] activeHeadcount = new long[groups];
+            long[] salary = new long[groups];
+            for (int i = 0; i < selected.length; i++) {
+                if (selected[i] == 0) {
+                    continue;
+                }
+                int isActive = bit(active, i);
+                for (int code : skillCodes[i]) {
+                    headcount[code]++;
+                    activeHeadcount[code] += isActive;
+                    salary[code] += salaryCents[i];
+                }
+            }
+            List<EmployeeAggregate> result = new ArrayList<>();
+            for (int g = 0; g < groups; g++) {
+                if (headcount[g] > 0) {
+                    result.add(new EmployeeAggregate(skills.value(g), headcount[g], activeHeadcount[g],
+                            BigDecimal.valueOf(salary[g], 2)));
+                }
+            }
+            result.sort(BY_KEY);
+            return result;
+        }
+
+        private int allocate(String employeeId) {
+            int row;
+            if (free.isEmpty()) {
+                row = rows++;
+                if (row == salaryCents.length) {
+                    grow(row * 2);
+                }
+            } else {
+                row = free.first();
+                free.remove(row);
+            }
+            rowByEmployee.put(employeeId, row);
+            return row;
+        }
+
+        private void grow(int capacity) {
+            salaryCents = Arrays.copyOf(salaryCents, capacity);
+            hireDay = Arrays.copyOf(hireDay, capacity);
+            department = Arrays.copyOf(department, capacity);
+            position = Arrays.copyOf(position, capacity);
+            skillCodes = Arrays.copyOf(skillCodes, capacity);
+            live = Arrays.copyOf(live, capacity / 64);
+            active = Arrays.copyOf(active, capacity / 64);
+        }
+
+        private static int bit(long[] words, int i) {
+            return (int) (words[i >>> 6] >>> i) & 1;
+        }
+
+        private static void set(long[] words, int i, boolean value) {
+            if (value) {
+                words[i >>> 6] |= 1L << i;
+            } else {
+                words[i >>> 6] &= ~(1L << i);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.amblessed.employees.search;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.service.EmployeeChangedEvent;
+import com.amblessed.employees.service.EmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Base for in-process indexes derived from the employees table.
+ * <p>
+ * The index is built by streaming every row once the application is ready (or after a reseed), and kept
+ * current from {@link EmployeeChangedEvent}s after each write commits. A rebuild fills a fresh state off to
+ * the side while queries keep using the old one; events that arrive meanwhile are applied to both and
+ * replayed onto the fresh state before it is swapped in. Subclasses therefore make {@link #upsert} and
+ * {@link #remove} idempotent, keyed by employee id.
+ *
+ * @param <S> the index structure; only touched under this class's lock
+ */
+public abstract class EmployeeIndex<S> {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final EmployeeService employeeService;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private S state;
+    private List<EmployeeChangedEvent> pending; // non-null while a rebuild is running
+    private volatile boolean built;
+
+    protected EmployeeIndex(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+        this.state = newState();
+        loaded(state);
+    }
+
+    protected abstract S newState();
+
+    /**
+     * Called on a state once its initial rows are in, before it serves queries or takes further events: the empty
+     * state on construction, and a rebuild's fresh state after the last streamed row. Structures that are cheaper
+     * to bulk-load than to grow row by row finish their load here.
+     */
+    protected void loaded(S state) {
+    }
+
+    /**
+     * Adds the employee, replacing whatever was indexed under the same id.
+     */
+    protected abstract void upsert(S state, EmployeeResponse employee);
+
+    protected abstract void remove(S state, String employeeId);
+
+    /**
+     * An index that is switched off by configuration is never built and ignores events.
+     */
+    protected boolean enabled() {
+        return true;
+    }
+
+    /**
+     * True once the first build has completed; until then queries see an empty state.
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Runs a query against the current state under the read lock.
+     */
+    protected <R> R read(Function<S, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled() && !built) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!enabled()) {
+            return;
+        }
+        if (event.type() == EmployeeChangedEvent.Type.RELOADED) {
+            rebuild();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(state, event);
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            S fresh = newState();
+            AtomicLong rows = new AtomicLong();
+            try {
+                employeeService.exportEmployees(null, null, null, employee -> {
+                    upsert(fresh, employee);
+                    rows.incrementAndGet();
+                });
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            loaded(fresh);
+
+            lock.writeLock().lock();
+            try {
+                pending.forEach(event -> apply(fresh, event));
+                pending = null;
+                state = fresh;
+                built = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Built {} over {} employees in {} ms", getClass().getSimpleName(), rows.get(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void apply(S target, EmployeeChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> upsert(target, event.current());
+            case DELETED -> remove(target, event.employeeId());
+            case RELOADED -> {
+                // handled by rebuild()
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.amblessed.employees.search;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.service.EmployeeService;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Typo-tolerant search over first name, last name and the local part of the email.
+ * <p>
+ * Distinct folded terms form a dictionary. If two words are within {@code k} edits (a transposition
+ * counting as one), deleting at most {@code k} characters from each yields a common string, so every term
+ * is indexed under its deletion neighbourhood: itself and every string left after deleting up to two of its
+ * characters. A query word looks up its own neighbourhood within its edit budget and only verifies the
+ * terms found there with a bounded Damerau-Levenshtein distance, so no dictionary term is scanned and no
+ * match within the budget is missed.
+ * <p>
+ * The neighbourhood is kept as one sorted array of (string hash, term) pairs; a hash collision only costs
+ * a distance check. Terms first seen after a rebuild go to a small side map that is merged back in
+ * once it grows.
+ */
+@Component
+public class FuzzyNameIndex extends EmployeeIndex<FuzzyNameIndex.Terms> {
+
+    private static final int MAX_WORDS = 5;
+    private static final Pattern LOCAL_PART_SEPARATORS = Pattern.compile("[._+-]+");
+
+    private final int maxDistance;
+    private final int maxResults;
+
+    public FuzzyNameIndex(EmployeeService employeeService,
+                          @Value("${app.search.fuzzy.max-distance:2}") int maxDistance,
+                          @Value("${app.search.max-results:1000}") int maxResults) {
+        super(employeeService);
+        this.maxDistance = maxDistance;
+        this.maxResults = maxResults;
+    }
+
+    public record Hit(String employeeId, int distance) {
+    }
+
+    public record Hits(List<Hit> hits, int totalHits) {
+    }
+
+    /**
+     * Employees matching every query word within its edit budget, closest first, ties by employee id.
+     */
+    public Hits search(String query, int page, int size) {
+        if (page < 0 || size < 1 || (long) (page + 1) * size > maxResults) {
+            throw new InvalidParameterException("Fuzzy search can page through at most " + maxResults + " results");
+        }
+        List<String> words = words(NameIndex.fold(query));
+        if (words.isEmpty()) {
+            throw new InvalidParameterException("Query must contain at least one word");
+        }
+        if (words.size() > MAX_WORDS) {
+            throw new InvalidParameterException("Query may contain at most " + MAX_WORDS + " words");
+        }
+        return read(terms -> terms.search(words, page, size, maxDistance));
+    }
+
+    @Override
+    protected Terms newState() {
+        return new Terms(budget(Integer.MAX_VALUE, maxDistance));
+    }
+
+    @Override
+    protected void loaded(Terms terms) {
+        terms.seal();
+    }
+
+    @Override
+    protected void upsert(Terms terms, EmployeeResponse employee) {
+        terms.remove(employee.getEmployeeId());
+        Set<String> words = new LinkedHashSet<>();
+        for (String field : new String[]{employee.getFirstName(), employee.getLastName(), employee.getEmail()}) {
+            String folded = NameIndex.fold(field);
+            if (!folded.isEmpty()) {
+                words.addAll(words(folded));
+            }
+        }
+        terms.add(employee.getEmployeeId(), words);
+    }
+
+    @Override
+    protected void remove(Terms terms, String employeeId) {
+        terms.remove(employeeId);
+    }
+
+    /**
+     * Splits on whitespace, and an email's local part on its separators ("john.smith@..." gives "john" and
+     * "smith"). The domain is dropped: it is shared by a whole department and would match all of it.
+     */
+    static List<String> words(String folded) {
+        List<String> words = new ArrayList<>();
+        for (String token : folded.split(" ")) {
+            int at = token.indexOf('@');
+            for (String word : LOCAL_PART_SEPARATORS.split(at < 0 ? token : token.substring(0, at))) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Edit budget for a word: exact up to two characters, one edit up to five, otherwise the configured cap.
+     */
+    static int budget(int length, int maxDistance) {
+        return Math.min(maxDistance, length <= 2 ? 0 : length <= 5 ? 1 : 2);
+    }
+
+    /**
+     * The term and every non-empty string left after deleting up to {@code depth} of its characters.
+     */
+    static Set<String> deletions(String term, int depth) {
+        Set<String> variants = new HashSet<>();
+        variants.add(term);
+        Set<String> frontier = Set.of(term);
+        for (int round = 0; round < depth; round++) {
+            Set<String> next = new HashSet<>();
+            for (String variant : frontier) {
+                for (int i = 0; i < variant.length(); i++) {
+                    String shorter = variant.substring(0, i) + variant.substring(i + 1);
+                    if (!shorter.isEmpty() && variants.add(shorter)) {
+                        next.add(shorter);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return variants;
+    }
+
+    /**
+     * Optimal string alignment distance, or {@code bound + 1} as soon as it must exceed {@code bound}.
+     */
+    static int distance(String a, String b, int bound) {
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+
+    static final class Terms {
+        private static final long[] NO_VARIANTS = new long[0];
+
+        private final int depth;
+        private final Map<String, Integer> idByTerm = new HashMap<>();
+        private final List<String> termById = new ArrayList<>();
+        private final List<Set<String>> employeesByTerm = new ArrayList<>();
+        private final Map<String, int[]> termsByEmployee = new HashMap<>();
+        private long[] variants = NO_VARIANTS; // (variant hash << 32) | term id, sorted
+        private final Map<Integer, RoaringBitmap> recent = new HashMap<>(); // variant hash -> terms added since
+        private int recentPairs;
+        private boolean loading = true; // terms are only collected until sealed
+
+        Terms(int depth) {
+            this.depth = depth;
+        }
+
+        void add(String employeeId, Collection<String> words) {
+            int[] ids = new int[words.size()];
+            int i = 0;
+            for (String word : words) {
+                int id = termId(word);
+                employeesByTerm.get(id).add(employeeId);
+                ids[i++] = id;
+            }
+            termsByEmployee.put(employeeId, ids);
+        }
+
+        /**
+         * Unlinks the employee from its terms; terms left without employees stay in the dictionary
+         * (and are skipped) until the next rebuild.
+         */
+        void remove(String employeeId) {
+            int[] ids = termsByEmployee.remove(employeeId);
+            if (ids == null) {
+                return;
+            }
+            for (int id : ids) {
+                employeesByTerm.get(id).remove(employeeId);
+            }
+        }
+
+        /**
+         * Indexes the neighbourhoods of every term collected so far in one sorted array.
+         */
+        void seal() {
+            if (!loading) {
+                return;
+            }
+            long[] pairs = new long[1024];
+            int size = 0;
+            for (int id = 0; id < termById.size(); id++) {
+                for (String variant : deletions(termById.get(id), depth)) {
+                    if (size == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, size * 2);
+                    }
+                    pairs[size++] = pair(variant.hashCode(), id);
+                }
+            }
+            variants = Arrays.copyOf(pairs, size);
+            Arrays.sort(variants);
+            loading = false;
+        }
+
+        private int termId(String term) {
+            Integer existing = idByTerm.get(term);
+            if (existing != null) {
+                return existing;
+            }
+            int id = termById.size();
+            idByTerm.put(term, id);
+            termById.add(term);
+            employeesByTerm.add(new HashSet<>(2));
+            if (!loading) {
+                for (String variant : deletions(term, depth)) {
+                    recent.computeIfAbsent(variant.hashCode(), hash -> new RoaringBitmap()).add(id);
+                    recentPairs++;
+                }
+                if (recentPairs > Math.max(4096, variants.length / 8)) {
+                    merge();
+                }
+            }
+            return id;
+        }
+
+        private void merge() {
+            long[] merged = Arrays.copyOf(variants, variants.length + recentPairs);
+            int size = variants.length;
+            for (Map.Entry<Integer, RoaringBitmap> entry : recent.entrySet()) {
+                for (int id : entry.getValue()) {
+                    merged[size++] = pair(entry.getKey(), id);
+                }
+            }
+            variants = Arrays.copyOf(merged, size);
+            Arrays.sort(variants);
+            recent.clear();
+            recentPairs = 0;
+        }
+
+        private static long pair(int hash, int id) {
+            return (long) hash << 32 | id;
+        }
+
+        Hits search(List<String> words, int page, int size, int maxDistance) {
+            Map<String, Integer> total = null;
+            for (String word : words) {
+                Map<String, Integer> best = match(word, budget(word.length(), maxDistance));
+                if (total == null) {
+                    total = best;
+                } else {
+                    Map<String, Integer> both = new HashMap<>();
+                    for (Map.Entry<String, Integer> entry : best.entrySet()) {
+                        Integer sofar = total.get(entry.getKey());
+                        if (sofar != null) {
+                            both.put(entry.getKey(), sofar + entry.getValue());
+                        }
+                    }
+                    total = both;
+                }
+                if (total.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+            }
+
+            Map<String, Integer> distances = total;
+            List<String> ranked = new ArrayList<>(distances.keySet());
+            ranked.sort(Comparator.comparingInt((String id) -> distances.get(id))
+                    .thenComparing(Comparator.naturalOrder()));
+            int from = Math.min(page * size, ranked.size());
+            int to = Math.min(from + size, ranked.size());
+            List<Hit> hits = new ArrayList<>(to - from);
+            for (String id : ranked.subList(from, to)) {
+                hits.add(new Hit(id, distances.get(id)));
+            }
+            return new Hits(hits, ranked.size());
+        }
+
+        /**
+         * Smallest distance from the word to any of each employee's terms, over the terms sharing a
+         * neighbourhood string with the word.
+         */
+        private Map<String, Integer> match(String word, int bound) {
+            RoaringBitmap candidates = new RoaringBitmap();
+            for (String variant : deletions(word, bound)) {
+                int hash = variant.hashCode();
+                int at = Arrays.binarySearch(variants, pair(hash, 0));
+                for (int i = at >= 0 ? at : -at - 1; i < variants.length && (int) (variants[i] >>> 32) == hash; i++) {
+                    candidates.add((int) variants[i]);
+                }
+                RoaringBitmap added = recent.get(hash);
+                if (added != null) {
+                    candidates.or(added);
+                }
+            }
+
+            Map<String, Integer> best = new HashMap<>();
+            for (int candidate : candidates) {
+                Set<String> employees = employeesByTerm.get(candidate);
+                if (employees.isEmpty()) {
+                    continue;
+                }
+                int distance = distance(word, termById.get(candidate), bound);
+                if (distance <= bound) {
+                    for (String employeeId : employees) {
+                        best.merge(employeeId, distance, Math::min);
+                    }
+                }
+            }
+            return best;
+        }
+    }
+}
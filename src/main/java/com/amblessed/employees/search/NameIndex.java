@@ -0,0 +1,175 @@
+package com.amblessed.employees.search;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Case-folded name keys for type-ahead suggestions, kept as one sorted array.
+ * <p>
+ * Every employee is reachable as "first last" and as "last first", so a prefix of either name matches.
+ * Each entry is a key joined to an employee id, so all entries under a prefix form one contiguous run:
+ * a binary search finds its start and the suggestions are read off in order, alphabetically and in
+ * {@code O(log n + limit)}. A rebuild appends every entry and sorts once; later writes insert and delete
+ * in place.
+ */
+@Component
+public class NameIndex extends EmployeeIndex<NameIndex.Names> {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final int maxLimit;
+
+    public NameIndex(EmployeeService employeeService,
+                     @Value("${app.search.suggest.max-limit:20}") int maxLimit) {
+        super(employeeService);
+        this.maxLimit = maxLimit;
+    }
+
+    public record Suggestion(String employeeId, String name) {
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidParameterException("Limit must be between 1 and " + maxLimit);
+        }
+        String key = fold(prefix);
+        if (key.isEmpty()) {
+            throw new InvalidParameterException("Prefix must contain at least one character");
+        }
+        return read(names -> names.suggest(key, limit));
+    }
+
+    @Override
+    protected Names newState() {
+        return new Names();
+    }
+
+    @Override
+    protected void loaded(Names names) {
+        names.seal();
+    }
+
+    @Override
+    protected void upsert(Names names, EmployeeResponse employee) {
+        names.remove(employee.getEmployeeId());
+        names.add(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName());
+    }
+
+    @Override
+    protected void remove(Names names, String employeeId) {
+        names.remove(employeeId);
+    }
+
+    /**
+     * Lower-cases, strips accents and collapses whitespace, so "José  Álvarez" is found by "jose a".
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    static final class Names {
+        private static final char SEPARATOR = '\u0000'; // sorts before any name character
+
+        private String[] entries = new String[64]; // key + SEPARATOR + employee id
+        private int size;
+        private boolean loading = true; // entries are appended unsorted until sealed
+        private final Map<String, String> nameByEmployee = new HashMap<>();
+        private final Map<String, List<String>> keysByEmployee = new HashMap<>();
+
+        void add(String employeeId, String firstName, String lastName) {
+            String first = firstName == null ? "" : firstName.strip();
+            String last = lastName == null ? "" : lastName.strip();
+            String name = (first + " " + last).strip();
+            if (name.isEmpty()) {
+                return;
+            }
+            List<String> keys = new ArrayList<>(2);
+            keys.add(fold(name));
+            String reversed = fold(last + " " + first);
+            if (!reversed.equals(keys.get(0))) {
+                keys.add(reversed);
+            }
+            for (String key : keys) {
+                insert(key + SEPARATOR + employeeId);
+            }
+            nameByEmployee.put(employeeId, name);
+            keysByEmployee.put(employeeId, keys);
+        }
+
+        void remove(String employeeId) {
+            List<String> keys = keysByEmployee.remove(employeeId);
+            if (keys == null) {
+                return;
+            }
+            nameByEmployee.remove(employeeId);
+            seal();
+            for (String key : keys) {
+                int at = Arrays.binarySearch(entries, 0, size, key + SEPARATOR + employeeId);
+                if (at >= 0) {
+                    System.arraycopy(entries, at + 1, entries, at, size - at - 1);
+                    entries[--size] = null;
+                }
+            }
+        }
+
+        void seal() {
+            if (loading) {
+                Arrays.sort(entries, 0, size);
+                loading = false;
+            }
+        }
+
+        List<Suggestion> suggest(String prefix, int limit) {
+            int at = Arrays.binarySearch(entries, 0, size, prefix);
+            Set<String> found = new LinkedHashSet<>();
+            for (int i = at >= 0 ? at : -at - 1; i < size && found.size() < limit; i++) {
+                String entry = entries[i];
+                if (!entry.startsWith(prefix)) {
+                    break;
+                }
+                found.add(entry.substring(entry.lastIndexOf(SEPARATOR) + 1));
+            }
+            List<Suggestion> suggestions = new ArrayList<>(found.size());
+            found.forEach(id -> suggestions.add(new Suggestion(id, nameByEmployee.get(id))));
+            return suggestions;
+        }
+
+        private void insert(String entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            if (loading) {
+                entries[size++] = entry;
+                return;
+            }
+            int at = Arrays.binarySearch(entries, 0, size, entry);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            System.arraycopy(entries, at, entries, at + 1, size - at);
+            entries[at] = entry;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.amblessed.employees.search;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Inverted index over performance reviews, ranked with BM25.
+ * <p>
+ * Each indexed review gets a document number; postings are append-only arrays of (document, term frequency)
+ * in document order. Updating or deleting a review tombstones its document instead of rewriting postings,
+ * and the arrays are compacted once tombstones outnumber live documents. Until then, document frequencies
+ * still count tombstoned documents, which only slightly flattens IDF.
+ */
+@Component
+public class ReviewIndex extends EmployeeIndex<ReviewIndex.Reviews> {
+
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "but", "by",
+            "for", "has", "in", "is", "it", "of", "on", "or", "should", "that", "the", "to", "was", "with");
+
+    private final double k1;
+    private final double b;
+    private final int maxResults;
+
+    public ReviewIndex(EmployeeService employeeService,
+                       @Value("${app.search.reviews.k1:1.2}") double k1,
+                       @Value("${app.search.reviews.b:0.75}") double b,
+                       @Value("${app.search.max-results:1000}") int maxResults) {
+        super(employeeService);
+        this.k1 = k1;
+        this.b = b;
+        this.maxResults = maxResults;
+    }
+
+    public record Hit(String employeeId, double score) {
+    }
+
+    public record Hits(List<Hit> hits, int totalHits) {
+    }
+
+    /**
+     * Top-k retrieval for one page: only {@code (page + 1) * size} best documents are kept in a bounded heap.
+     */
+    public Hits search(String query, int page, int size) {
+        if (page < 0 || size < 1 || (long) (page + 1) * size > maxResults) {
+            throw new InvalidParameterException("Review search can page through at most " + maxResults + " results");
+        }
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            throw new InvalidParameterException("Query must contain at least one searchable word");
+        }
+        return read(reviews -> reviews.search(terms, page, size, k1, b));
+    }
+
+    @Override
+    protected Reviews newState() {
+        return new Reviews();
+    }
+
+    @Override
+    protected void upsert(Reviews reviews, EmployeeResponse employee) {
+        reviews.remove(employee.getEmployeeId());
+        reviews.add(employee.getEmployeeId(), tokenize(employee.getPerformanceReview()));
+    }
+
+    @Override
+    protected void remove(Reviews reviews, String employeeId) {
+        reviews.remove(employeeId);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+
+        void append(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+
+    static final class Reviews {
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<String, Integer> docByEmployee = new HashMap<>();
+        private List<String> employeeByDoc = new ArrayList<>();
+        private int[] lengths = new int[64];
+        private BitSet live = new BitSet();
+        private int liveDocs;
+        private long totalLength;
+
+        void add(String employeeId, List<String> tokens) {
+            int doc = employeeByDoc.size();
+            Map<String, Integer> freqs = new HashMap<>();
+            for (String token : tokens) {
+                freqs.merge(token, 1, Integer::sum);
+            }
+            freqs.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new Postings()).append(doc, freq));
+            employeeByDoc.add(employeeId);
+            if (doc == lengths.length) {
+                lengths = Arrays.copyOf(lengths, doc * 2);
+            }
+            lengths[doc] = tokens.size();
+            live.set(doc);
+            docByEmployee.put(employeeId, doc);
+            liveDocs++;
+            totalLength += tokens.size();
+        }
+
+        void remove(String employeeId) {
+            Integer doc = docByEmployee.remove(employeeId);
+            if (doc == null) {
+                return;
+            }
+            live.clear(doc);
+            employeeByDoc.set(doc, null);
+            liveDocs--;
+            totalLength -= lengths[doc];
+            int dead = employeeByDoc.size() - liveDocs;
+            if (dead > 1024 && dead > liveDocs) {
+                compact();
+            }
+        }
+
+        Hits search(List<String> terms, int page, int size, double k1, double b) {
+            if (liveDocs == 0) {
+                return new Hits(List.of(), 0);
+            }
+            double avgLength = (double) totalLength / liveDocs;
+            float[] scores = new float[employeeByDoc.size()];
+            int[] touched = new int[16];
+            int touchedCount = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // Tombstones can push the raw posting count past the live total; clamp so IDF stays positive
+                int df = Math.min(list.size, liveDocs);
+                double idf = Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (!live.get(doc)) {
+                        continue;
+                    }
+                    int freq = list.freqs[i];
+                    double norm = k1 * (1 - b + b * lengths[doc] / avgLength);
+                    if (scores[doc] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += (float) (idf * freq * (k1 + 1) / (freq + norm));
+                }
+            }
+
+            int k = (page + 1) * size;
+            PriorityQueue<Integer> best = new PriorityQueue<>(k + 1, Comparator
+                    .comparingDouble((Integer doc) -> scores[doc])
+                    .thenComparing(Comparator.reverseOrder()));
+            for (int i = 0; i < touchedCount; i++) {
+                best.add(touched[i]);
+                if (best.size() > k) {
+                    best.poll();
+                }
+            }
+            List<Hit> ranked = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                int doc = best.poll();
+                ranked.add(new Hit(employeeByDoc.get(doc), scores[doc]));
+            }
+            Collections.reverse(ranked);
+            int from = Math.min(page * size, ranked.size());
+            return new Hits(List.copyOf(ranked.subList(from, ranked.size())), touchedCount);
+        }
+
+        /**
+         * Renumbers live documents densely and drops tombstoned postings; document order is preserved,
+         * so postings stay sorted.
+         */
+        private void compact() {
+            int[] remap = new int[employeeByDoc.size()];
+            List<String> employees = new ArrayList<>(liveDocs);
+            int[] newLengths = new int[Math.max(64, liveDocs)];
+            BitSet newLive = new BitSet(liveDocs);
+            for (int doc = 0; doc < employeeByDoc.size(); doc++) {
+                if (live.get(doc)) {
+                    int target = employees.size();
+                    remap[doc] = target;
+                    employees.add(employeeByDoc.get(doc));
+                    newLengths[target] = lengths[doc];
+                    newLive.set(target);
+                    docByEmployee.put(employeeByDoc.get(doc), target);
+                } else {
+                    remap[doc] = -1;
+                }
+            }
+            postings.values().removeIf(list -> {
+                int kept = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int doc = remap[list.docs[i]];
+                    if (doc >= 0) {
+                        list.docs[kept] = doc;
+                        list.freqs[kept] = list.freqs[i];
+                        kept++;
+                    }
+                }
+                list.size = kept;
+                return kept == 0;
+            });
+            employeeByDoc = employees;
+            lengths = newLengths;
+            live = newLive;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.amblessed.employees.search;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.config.DepartmentService;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.service.EmployeeService;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Skill dictionary plus one Roaring bitmap per skill over dense employee numbers, so all/any/none
+ * skill queries are bitmap AND/OR/ANDNOT instead of parsing every row's comma-joined skills.
+ * <p>
+ * The dictionary is seeded from the generator vocabulary and grows when a row brings an unseen skill.
+ * Skill names match case-insensitively. An employee keeps its number across updates; numbers freed by
+ * deletes are reused so the bitmaps stay dense.
+ */
+@Component
+public class SkillIndex extends EmployeeIndex<SkillIndex.Skills> {
+
+    public SkillIndex(EmployeeService employeeService) {
+        super(employeeService);
+    }
+
+    public record Matches(List<String> employeeIds, int total) {
+    }
+
+    /**
+     * Employees having every skill in {@code all}, at least one in {@code any} and none in {@code none};
+     * empty sets are ignored. Results page in employee-number order, so pages are consistent only while no
+     * employee is written: freed numbers are reused and a rebuild renumbers everyone in load order.
+     */
+    public Matches search(Collection<String> all, Collection<String> any, Collection<String> none, int page, int size) {
+        if (all.isEmpty() && any.isEmpty() && none.isEmpty()) {
+            throw new InvalidParameterException("At least one of all, any or none is required");
+        }
+        if (page < 0 || size < 1) {
+            throw new InvalidParameterException("Page must be >= 0 and size >= 1");
+        }
+        return read(skills -> {
+            RoaringBitmap result = skills.evaluate(all, any, none);
+            List<String> ids = new ArrayList<>(size);
+            long from = (long) page * size;
+            for (long rank = from; rank < Math.min(from + size, result.getLongCardinality()); rank++) {
+                ids.add(skills.employeeByDoc.get(result.select((int) rank)));
+            }
+            return new Matches(ids, result.getCardinality());
+        });
+    }
+
+    /**
+     * Known skill names with the number of employees having each.
+     */
+    public Map<String, Integer> dictionary() {
+        return read(skills -> {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (int id = 0; id < skills.names.size(); id++) {
+                counts.put(skills.names.get(id), skills.postings.get(id).getCardinality());
+            }
+            return counts;
+        });
+    }
+
+    @Override
+    protected Skills newState() {
+        Skills skills = new Skills();
+        DepartmentService.getAllSkills().forEach(skills::skillId);
+        return skills;
+    }
+
+    @Override
+    protected void upsert(Skills skills, EmployeeResponse employee) {
+        skills.put(employee.getEmployeeId(), parse(employee.getSkills()));
+    }
+
+    @Override
+    protected void remove(Skills skills, String employeeId) {
+        skills.remove(employeeId);
+    }
+
+    static List<String> parse(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(skills.split(",")).map(String::trim).filter(skill -> !skill.isEmpty()).toList();
+    }
+
+    static final class Skills {
+        private final Map<String, Integer> idByKey = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<RoaringBitmap> postings = new ArrayList<>();
+        private final Map<String, Integer> docByEmployee = new HashMap<>();
+        private final List<String> employeeByDoc = new ArrayList<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap free = new RoaringBitmap();
+
+        int skillId(String name) {
+            return idByKey.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> {
+                names.add(name);
+                postings.add(new RoaringBitmap());
+                return names.size() - 1;
+            });
+        }
+
+        void put(String employeeId, List<String> skills) {
+            Integer doc = docByEmployee.get(employeeId);
+            if (doc == null) {
+                doc = allocate(employeeId);
+            } else {
+                clear(doc);
+            }
+            for (String skill : skills) {
+                postings.get(skillId(skill)).add(doc);
+            }
+        }
+
+        void remove(String employeeId) {
+            Integer doc = docByEmployee.remove(employeeId);
+            if (doc == null) {
+                return;
+            }
+            clear(doc);
+            live.remove(doc);
+            employeeByDoc.set(doc, null);
+            free.add(doc);
+        }
+
+        RoaringBitmap evaluate(Collection<String> all, Collection<String> any, Collection<String> none) {
+            RoaringBitmap result = live.clone();
+            for (String skill : all) {
+                Integer id = idByKey.get(skill.trim().toLowerCase(Locale.ROOT));
+                if (id == null) {
+                    return new RoaringBitmap();
+                }
+                result.and(postings.get(id));
+            }
+            if (!any.isEmpty()) {
+                result.and(union(any));
+            }
+            if (!none.isEmpty()) {
+                result.andNot(union(none));
+            }
+            return result;
+        }
+
+        private RoaringBitmap union(Collection<String> skills) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (String skill : skills) {
+                Integer id = idByKey.get(skill.trim().toLowerCase(Locale.ROOT));
+                if (id != null) {
+                    bitmaps.add(postings.get(id));
+                }
+            }
+            return RoaringBitmap.or(bitmaps.iterator());
+        }
+
+        private int allocate(String employeeId) {
+            int doc;
+            if (free.isEmpty()) {
+                doc = employeeByDoc.size();
+                employeeByDoc.add(employeeId);
+            } else {
+                doc = free.first();
+                free.remove(doc);
+                employeeByDoc.set(doc, employeeId);
+            }
+            docByEmployee.put(employeeId, doc);
+            live.add(doc);
+            return doc;
+        }
+
+        private void clear(int doc) {
+            for (RoaringBitmap bitmap : postings) {
+                bitmap.remove(doc);
+            }
+        }
+    }
+}
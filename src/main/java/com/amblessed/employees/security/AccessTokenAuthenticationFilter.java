@@ -0,0 +1,65 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.exception.InvalidAccessTokenException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <token>} issued by {@link AccessTokenService}.
+ * Requests without a bearer token fall through to HTTP Basic.
+ * Not a {@code @Component}: it is only registered inside the security filter chain.
+ */
+public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+
+    public AccessTokenAuthenticationFilter(AccessTokenService accessTokenService,
+                                           AuthenticationEntryPoint authenticationEntryPoint) {
+        this.accessTokenService = accessTokenService;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<Authentication> authentication = accessTokenService.verify(header.substring(BEARER_PREFIX.length()).trim());
+        if (authentication.isEmpty()) {
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.commence(request, response, new InvalidAccessTokenException("Invalid or expired access token"));
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication.get());
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
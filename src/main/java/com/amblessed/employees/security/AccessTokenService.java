@@ -0,0 +1,158 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Issues and verifies short-lived HMAC-SHA256 signed access tokens.
+ * <p>
+ * Token layout: {@code <keyId>.<base64url(userId \n roles \n expiresAtEpochSecond)>.<base64url(signature)>}.
+ * Verification is CPU-only: no repository call and no password encoder.
+ * <p>
+ * Keys come from {@code app.security.token.keys} as a comma separated list of {@code keyId:base64Secret}.
+ * The first key signs new tokens, the others are only accepted for verification, so a key can be rotated
+ * by prepending a new one and dropping the old one once the token TTL has passed.
+ * When no keys are configured a random key is generated, which invalidates all tokens on restart.
+ */
+@Component
+public class AccessTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String GENERATED_KEY_ID = "local";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Logger log = LoggerFactory.getLogger(AccessTokenService.class);
+
+    private final Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+    private final String signingKeyId;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public AccessTokenService(@Value("${app.security.token.keys:}") String configuredKeys,
+                              @Value("${app.security.token.ttl:PT15M}") Duration ttl) {
+        this(configuredKeys, ttl, Clock.systemUTC());
+    }
+
+    AccessTokenService(String configuredKeys, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        for (String entry : configuredKeys.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) continue;
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalArgumentException("Token keys must be configured as keyId:base64Secret");
+            }
+            byte[] secret = Base64.getDecoder().decode(trimmed.substring(separator + 1));
+            if (secret.length < 32) {
+                throw new IllegalArgumentException("Token key " + trimmed.substring(0, separator) + " must be at least 256 bits");
+            }
+            keys.put(trimmed.substring(0, separator), new SecretKeySpec(secret, HMAC_ALGORITHM));
+        }
+        if (keys.isEmpty()) {
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            keys.put(GENERATED_KEY_ID, new SecretKeySpec(secret, HMAC_ALGORITHM));
+            log.warn("No app.security.token.keys configured, using a generated key; tokens will not survive a restart");
+        }
+        this.signingKeyId = keys.keySet().iterator().next();
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Issues a token for an already authenticated principal.
+     */
+    public String issue(Authentication authentication) {
+        String roles = String.join(",", authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = authentication.getName() + "\n" + roles + "\n" + expiresAt;
+
+        String header = signingKeyId + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return header + "." + ENCODER.encodeToString(sign(keys.get(signingKeyId), header));
+    }
+
+    /**
+     * Verifies the signature and expiry of a token.
+     *
+     * @return the authenticated principal, or empty if the token is malformed, forged or expired
+     */
+    public Optional<Authentication> verify(String token) {
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || last == first) return Optional.empty();
+
+        SecretKeySpec key = keys.get(token.substring(0, first));
+        if (key == null) return Optional.empty();
+
+        String header = token.substring(0, last);
+        byte[] expected = sign(key, header);
+        byte[] presented;
+        String[] claims;
+        try {
+            presented = DECODER.decode(token.substring(last + 1));
+            claims = new String(DECODER.decode(token.substring(first + 1, last)), StandardCharsets.UTF_8).split("\n", -1);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(expected, presented) || claims.length != 3) {
+            return Optional.empty();
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(claims[2]);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (clock.instant().getEpochSecond() >= expiresAt) {
+            return Optional.empty();
+        }
+
+        List<GrantedAuthority> authorities = claims[1].isEmpty() ? List.of()
+                : Arrays.stream(claims[1].split(",")).<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+        return Optional.of(UsernamePasswordAuthenticationToken.authenticated(claims[0], null, authorities));
+    }
+
+    private static byte[] sign(SecretKeySpec key, String data) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
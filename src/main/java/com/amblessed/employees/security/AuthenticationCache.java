@@ -0,0 +1,131 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.service.UserAccountChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, TTL-based cache of successful logins.
+ * Entries are keyed by an HMAC of userId + presented secret using a per-process key,
+ * so neither the raw password nor a reusable hash of it is ever held in memory.
+ * <p>
+ * A login verified while an eviction ran may have read the account as it was before the change, so
+ * {@link #put} only keeps its result if no eviction happened since the caller took its {@link #generation()}.
+ */
+@Component
+public class AuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final Cache<String, CachedAuthentication> cache;
+    private final ThreadLocal<Mac> macs;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AuthenticationCache(MeterRegistry meterRegistry,
+                               @Value("${app.security.auth-cache.enabled:true}") boolean enabled,
+                               @Value("${app.security.auth-cache.max-size:10000}") long maxSize,
+                               @Value("${app.security.auth-cache.ttl:PT5M}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.credentials");
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Returns a fresh authenticated token if this exact userId/secret pair was verified recently, otherwise null.
+     */
+    public Authentication get(String userId, String secret) {
+        if (!enabled) return null;
+        CachedAuthentication cached = cache.getIfPresent(keyFor(userId, secret));
+        if (cached == null) return null;
+        return UsernamePasswordAuthenticationToken.authenticated(cached.principal(), null, cached.authorities());
+    }
+
+    /**
+     * Taken before the credentials are checked against the database and handed back to {@link #put}.
+     */
+    public long generation() {
+        return evictions.get();
+    }
+
+    public void put(String userId, String secret, Authentication authentication, long generation) {
+        if (!enabled || evictions.get() != generation) return;
+        List<GrantedAuthority> authorities = List.copyOf(authentication.getAuthorities());
+        String key = keyFor(userId, secret);
+        CachedAuthentication cached = new CachedAuthentication(userId, authentication.getPrincipal(), authorities);
+        cache.put(key, cached);
+        // An eviction that started after the check above either sees this entry or is caught here
+        if (evictions.get() != generation) {
+            cache.asMap().remove(key, cached);
+        }
+    }
+
+    /**
+     * Drops every cached login for the given user, whatever secret it was made with.
+     */
+    public void evict(String userId) {
+        evictions.incrementAndGet();
+        cache.asMap().values().removeIf(cached -> cached.userId().equals(userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private String keyFor(String userId, String secret) {
+        Mac mac = macs.get();
+        mac.update(userId.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        byte[] digest = mac.doFinal(secret.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private record CachedAuthentication(String userId, Object principal, Collection<GrantedAuthority> authorities) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Wraps the DAO provider so a userId/password pair that was verified recently
+ * skips both the user lookup and the bcrypt comparison.
+ * Anything that would reach bcrypt is first charged against the {@link LoginThrottle}.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCache authenticationCache;
+    private final LoginThrottle loginThrottle;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate,
+                                         AuthenticationCache authenticationCache,
+                                         LoginThrottle loginThrottle) {
+        this.delegate = delegate;
+        this.authenticationCache = authenticationCache;
+        this.loginThrottle = loginThrottle;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String userId = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (userId == null || credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String secret = credentials.toString();
+        Authentication cached = authenticationCache.get(userId, secret);
+        if (cached != null) {
+            return cached;
+        }
+
+        String remoteAddress = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress() : null;
+        loginThrottle.acquire(remoteAddress, userId);
+
+        long generation = authenticationCache.generation();
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            authenticationCache.put(userId, secret, result, generation);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
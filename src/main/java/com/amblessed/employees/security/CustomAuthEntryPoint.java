@@ -8,11 +8,15 @@ package com.amblessed.employees.security;
  * @Created: 11-Sep-25
  */
 
+import com.amblessed.employees.audit.AuditEventType;
+import com.amblessed.employees.audit.AuditLog;
 import com.amblessed.employees.exception.GlobalExceptionHandler;
+import com.amblessed.employees.exception.InvalidAccessTokenException;
+import com.amblessed.employees.exception.LoginThrottledException;
+import com.amblessed.employees.exception.PasswordHashingUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.core.Authentication;
@@ -26,12 +30,12 @@ import java.io.IOException;
 @Component
 public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
 
-    private final Logger log = LoggerFactory.getLogger(CustomAuthEntryPoint.class);
-
     private final GlobalExceptionHandler exceptionHandler;
+    private final AuditLog auditLog;
 
-    public CustomAuthEntryPoint(GlobalExceptionHandler exceptionHandler) {
+    public CustomAuthEntryPoint(GlobalExceptionHandler exceptionHandler, AuditLog auditLog) {
         this.exceptionHandler = exceptionHandler;
+        this.auditLog = auditLog;
     }
 
     @Override
@@ -40,15 +44,27 @@ public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
                          AuthenticationException authException) throws IOException {
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String ip = request.getRemoteAddr();
-        String path = request.getRequestURI();
-        log.info("Unauthorized access to {}, from IP: {}", path , ip);
-        if (auth != null) {
-            log.info("User: {}, Role: {}", auth.getName() , auth.getAuthorities());
-        } else {
-            log.info("Authentication is null. Request URI: {}", request.getRequestURI());
+        auditLog.record(AuditEventType.AUTHENTICATION_FAILURE,
+                auth != null ? auth.getName() : null,
+                request.getRemoteAddr(),
+                request.getRequestURI(),
+                authException.getClass().getSimpleName());
+
+        if (authException instanceof LoginThrottledException throttled) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+            exceptionHandler.writeProblemDetail(response, exceptionHandler.createThrottledProblemDetail(throttled));
+            return;
+        }
+        if (authException instanceof PasswordHashingUnavailableException unavailable) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            exceptionHandler.writeProblemDetail(response, exceptionHandler.createServiceUnavailableProblemDetail(unavailable));
+            return;
         }
 
+        // A client that sent a bearer token is told that token is unusable (RFC 6750), not asked for a password
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, authException instanceof InvalidAccessTokenException
+                ? "Bearer realm=\"employees\", error=\"invalid_token\", error_description=\"" + authException.getMessage() + "\""
+                : "Basic realm=\"employees\"");
         ProblemDetail detail = exceptionHandler.createProblemDetail(authException, HttpStatus.UNAUTHORIZED);
         exceptionHandler.writeProblemDetail(response, detail);
     }
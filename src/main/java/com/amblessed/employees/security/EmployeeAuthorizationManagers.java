@@ -0,0 +1,72 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-built request authorization managers used by {@link SecurityConfig} in place of
+ * SpEL {@code @PreAuthorize} expressions: no expression parsing or evaluation per request.
+ */
+@Component
+public class EmployeeAuthorizationManagers {
+
+    public static final String EMPLOYEE_ID_VARIABLE = "employeeId";
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final AuthorizationManager<RequestAuthorizationContext> admin;
+    private final AuthorizationManager<RequestAuthorizationContext> adminOrManager;
+    private final AuthorizationManager<RequestAuthorizationContext> adminOrManagerOrSelf;
+    private final AuthorizationManager<RequestAuthorizationContext> adminOrSelf;
+
+    public EmployeeAuthorizationManagers(EmployeeSecurity employeeSecurity) {
+        this.admin = (authentication, context) ->
+                decision(employeeSecurity.isAdmin(authentication.get()));
+        this.adminOrManager = (authentication, context) ->
+                decision(employeeSecurity.isAdminOrManager(authentication.get()));
+        this.adminOrManagerOrSelf = (authentication, context) ->
+                decision(employeeSecurity.isAdminOrManagerOrSelf(authentication.get(),
+                        context.getVariables().get(EMPLOYEE_ID_VARIABLE)));
+        this.adminOrSelf = (authentication, context) ->
+                decision(employeeSecurity.isAdminOrSelf(authentication.get(),
+                        context.getVariables().get(EMPLOYEE_ID_VARIABLE)));
+    }
+
+    public AuthorizationManager<RequestAuthorizationContext> admin() {
+        return admin;
+    }
+
+    public AuthorizationManager<RequestAuthorizationContext> adminOrManager() {
+        return adminOrManager;
+    }
+
+    /**
+     * Requires the path to declare an {@code {employeeId}} variable.
+     */
+    public AuthorizationManager<RequestAuthorizationContext> adminOrManagerOrSelf() {
+        return adminOrManagerOrSelf;
+    }
+
+    /**
+     * Requires the path to declare an {@code {employeeId}} variable.
+     */
+    public AuthorizationManager<RequestAuthorizationContext> adminOrSelf() {
+        return adminOrSelf;
+    }
+
+    private static AuthorizationDecision decision(boolean granted) {
+        return granted ? GRANTED : DENIED;
+    }
+}
@@ -8,32 +8,33 @@ package com.amblessed.employees.security;
  * @Created: 13-Sep-25
  */
 
-import com.amblessed.employees.entity.EmployeeResponse;
-import com.amblessed.employees.service.EmployeeService;
+import com.amblessed.employees.audit.AuditEventType;
+import com.amblessed.employees.audit.AuditLog;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.util.Objects;
+import static com.amblessed.employees.security.RoleMasks.ADMIN;
+import static com.amblessed.employees.security.RoleMasks.MANAGER;
 
+/**
+ * Role and ownership checks used by {@link EmployeeAuthorizationManagers}.
+ * Everything is answered from the principal alone: no repository call per check.
+ */
 @Component("employeeSecurity")
 @RequiredArgsConstructor
 public class EmployeeSecurity {
 
-    private final Logger log = LoggerFactory.getLogger(EmployeeSecurity.class);
-    private static final String ROLE_ADMIN = "ROLE_ADMIN";
-    private static final String ROLE_MANAGER = "ROLE_MANAGER";
-
-    private final EmployeeService employeeService;
+    private final RoleMasks roleMasks;
+    private final AuditLog auditLog;
 
     /**
      * Returns true if the authenticated user has the ADMIN role.
      */
     public boolean isAdmin(Authentication authentication) {
-        log.info("Authorities: {}", authentication.getAuthorities());
-        return hasRole(authentication, ROLE_ADMIN);
+        boolean admin = roleMasks.hasAny(authentication, ADMIN);
+        auditLog.record(AuditEventType.ROLE_CHECK, nameOf(authentication), null, null, "ADMIN=" + admin);
+        return admin;
     }
 
 
@@ -41,19 +42,19 @@ public class EmployeeSecurity {
      * Returns true if the authenticated user has the MANAGER role.
      */
     public boolean isManager(Authentication authentication) {
-        return hasRole(authentication, ROLE_MANAGER);
+        return roleMasks.hasAny(authentication, MANAGER);
     }
 
     /**
      * Returns true if the authenticated user is the owner of employee with given id.
-     * I.e. the employee's own record.
+     * I.e. the employee's own record. The employee id is the user id, so no lookup is needed.
      */
     public boolean isSelf(Authentication authentication, String employeeId) {
         if (!isAuthenticated(authentication)) return false;
         String userId = authentication.getName();
-        log.info("UserID: {},  Employee ID: {}, Authorities: {}", userId, employeeId, authentication.getAuthorities());
-        EmployeeResponse employee = employeeService.findByEmployeeId(userId);
-        return employee != null && Objects.equals(employee.getEmployeeId(), employeeId);
+        boolean self = userId != null && userId.equals(employeeId);
+        auditLog.record(AuditEventType.SELF_ACCESS_CHECK, userId, null, null, "employeeId=" + employeeId + " self=" + self);
+        return self;
     }
 
     /**
@@ -69,7 +70,7 @@ public class EmployeeSecurity {
      * Returns true if the authenticated user is a manager or an admin.
      */
     public boolean isAdminOrManager(Authentication authentication) {
-        return isManager(authentication) || isAdmin(authentication);
+        return roleMasks.hasAny(authentication, ADMIN | MANAGER);
     }
 
     /**
@@ -85,30 +86,15 @@ public class EmployeeSecurity {
      * Composite: either admin OR self.
      */
     public boolean isAdminOrSelf(Authentication authentication, String employeeId) {
-        return isAdmin(authentication) || isSelf(authentication, employeeId);
-    }
-
-    private boolean hasRole(Authentication authentication, String role) {
-        if (isNotAuthenticated(authentication)){
-            return false;
-        }
-
-        System.out.println("$$$$$$$$$$$$$$$$$$$$$$$$$$$$$");
-        System.out.println(authentication.getAuthorities().stream().toList());
-        System.out.println(authentication.getAuthorities().stream()
-                .anyMatch(auth -> role.equals(auth.getAuthority())));
-        System.out.println("$$$$$$$$$$$$$$$$$$$$$$$$$$$$$");
-
-        return authentication.getAuthorities().stream()
-                .anyMatch(auth -> role.equals(auth.getAuthority()));
+        return roleMasks.hasAny(authentication, ADMIN) || isSelf(authentication, employeeId);
     }
 
     private boolean isAuthenticated(Authentication authentication) {
         return authentication != null && authentication.isAuthenticated();
     }
 
-    private boolean isNotAuthenticated(Authentication authentication) {
-        return authentication == null || !authentication.isAuthenticated();
+    private String nameOf(Authentication authentication) {
+        return authentication != null ? authentication.getName() : null;
     }
 
 }
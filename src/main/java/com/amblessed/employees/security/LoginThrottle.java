@@ -0,0 +1,161 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-IP and per-userId token buckets guarding password verification.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding its theoretical arrival time (GCRA),
+ * so taking a token is one CAS and no lock. A bucket that has fully refilled carries no state,
+ * which is what lets the key maps be pruned when they grow past {@code max-keys}. If that is not enough,
+ * the buckets closest to refilled go next, so the clients that are throttled hardest keep their state;
+ * a new key that still finds the map full is throttled rather than tracked.
+ */
+@Component
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Limiter ipLimiter;
+    private final Limiter userLimiter;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${app.security.login-throttle.enabled:true}") boolean enabled,
+                         @Value("${app.security.login-throttle.max-keys:100000}") int maxKeys,
+                         @Value("${app.security.login-throttle.ip.burst:20}") int ipBurst,
+                         @Value("${app.security.login-throttle.ip.per-second:2}") double ipPerSecond,
+                         @Value("${app.security.login-throttle.user.burst:5}") int userBurst,
+                         @Value("${app.security.login-throttle.user.per-second:0.2}") double userPerSecond) {
+        this(meterRegistry, enabled, maxKeys, ipBurst, ipPerSecond, userBurst, userPerSecond, System::nanoTime);
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, boolean enabled, int maxKeys, int ipBurst, double ipPerSecond,
+                  int userBurst, double userPerSecond, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.ipLimiter = new Limiter(ipBurst, ipPerSecond, meterRegistry, "ip");
+        this.userLimiter = new Limiter(userBurst, userPerSecond, meterRegistry, "user");
+    }
+
+    /**
+     * Takes one attempt from both the client address bucket and the user id bucket, or from neither.
+     *
+     * @throws LoginThrottledException if either bucket is empty
+     */
+    public void acquire(String remoteAddress, String userId) {
+        if (!enabled) return;
+        long now = nanoClock.getAsLong();
+        if (remoteAddress != null) {
+            ipLimiter.acquire(remoteAddress, "Too many login attempts from this address", now);
+        }
+        if (userId != null) {
+            try {
+                userLimiter.acquire(userId, "Too many login attempts for this user", now);
+            } catch (LoginThrottledException e) {
+                if (remoteAddress != null) {
+                    ipLimiter.refund(remoteAddress);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private final class Limiter {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean pruning = new AtomicBoolean();
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final Counter throttled;
+
+        private Limiter(int burst, double perSecond, MeterRegistry meterRegistry, String scope) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+            this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+            this.throttled = Counter.builder("auth.login.throttled")
+                    .description("Login attempts rejected before password verification")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+            meterRegistry.gauge("auth.login.throttle.keys", Tags.of("scope", scope), buckets, ConcurrentHashMap::size);
+        }
+
+        private void acquire(String key, String message, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxKeys) {
+                    prune(now);
+                    if (buckets.size() >= maxKeys) {
+                        throttled.increment();
+                        throw new LoginThrottledException(message, 1);
+                    }
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+            while (true) {
+                long tat = bucket.get();
+                long start = Math.max(tat, now);
+                long excess = start - now - toleranceNanos;
+                if (excess > 0) {
+                    throttled.increment();
+                    throw new LoginThrottledException(message, Math.ceilDiv(excess, TimeUnit.SECONDS.toNanos(1)));
+                }
+                if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Gives back a token taken by {@link #acquire} for an attempt that was then refused elsewhere.
+         */
+        private void refund(String key) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.addAndGet(-intervalNanos);
+            }
+        }
+
+        /**
+         * Drops refilled buckets, then, while more than nine tenths of {@code max-keys} remain, the buckets
+         * with the earliest arrival time, i.e. the least throttled ones.
+         */
+        private void prune(long now) {
+            if (!pruning.compareAndSet(false, true)) return;
+            try {
+                buckets.values().removeIf(bucket -> bucket.get() <= now);
+                int target = maxKeys - Math.max(1, maxKeys / 10);
+                int excess = buckets.size() - target;
+                if (excess > 0) {
+                    long[] arrivals = buckets.values().stream().mapToLong(AtomicLong::get).sorted().toArray();
+                    long cutoff = arrivals[Math.min(excess, arrivals.length) - 1];
+                    buckets.values().removeIf(bucket -> bucket.get() <= cutoff);
+                }
+            } finally {
+                pruning.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.amblessed.employees.security;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Role bitmasks expanded once from the {@link RoleHierarchy} bean,
+ * so an authorization check is a map lookup per authority plus a bitwise AND.
+ */
+@Component
+public class RoleMasks {
+
+    public static final String ROLE_EMPLOYEE = "ROLE_EMPLOYEE";
+    public static final String ROLE_MANAGER = "ROLE_MANAGER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    public static final int EMPLOYEE = 1;
+    public static final int MANAGER = 1 << 1;
+    public static final int ADMIN = 1 << 2;
+
+    private static final Map<String, Integer> ROLE_BITS = Map.of(
+            ROLE_EMPLOYEE, EMPLOYEE,
+            ROLE_MANAGER, MANAGER,
+            ROLE_ADMIN, ADMIN
+    );
+
+    private final Map<String, Integer> expandedMasks;
+
+    public RoleMasks(RoleHierarchy roleHierarchy) {
+        Map<String, Integer> masks = new HashMap<>();
+        ROLE_BITS.keySet().forEach(role -> {
+            int mask = 0;
+            for (GrantedAuthority reachable : roleHierarchy.getReachableGrantedAuthorities(List.of(new SimpleGrantedAuthority(role)))) {
+                mask |= ROLE_BITS.getOrDefault(reachable.getAuthority(), 0);
+            }
+            masks.put(role, mask);
+        });
+        this.expandedMasks = Map.copyOf(masks);
+    }
+
+    /**
+     * Returns the union of the hierarchy-expanded masks of every authority held, or 0 when unauthenticated.
+     */
+    public int maskOf(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return 0;
+        }
+        int mask = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Integer bits = expandedMasks.get(authority.getAuthority());
+            if (bits != null) {
+                mask |= bits;
+            }
+        }
+        return mask;
+    }
+
+    public boolean hasAny(Authentication authentication, int requiredMask) {
+        return (maskOf(authentication) & requiredMask) != 0;
+    }
+}
@@ -1,9 +1,12 @@
 package com.amblessed.employees.security;
 
 
+import com.amblessed.employees.audit.AuditLog;
 import com.amblessed.employees.repository.UserRepository;
 import com.amblessed.employees.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,8 +15,9 @@ import org.springframework.security.access.expression.method.MethodSecurityExpre
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -23,12 +27,19 @@ import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // Reads are registered for GET and HEAD alike: Spring MVC serves HEAD from the @GetMapping handler
+    private static final String[] MANAGER_READS = {"/api/employees", "/api/employees/search/**", "/api/employees/suggest",
+            "/api/employees/stats", "/api/employees/stats/percentiles", "/api/employees/analytics", "/api/employees/download",
+            "/api/employees/exports/**"};
+    private static final String EMPLOYEE_READ = "/api/employees/id/{employeeId}";
+
     private final UserRepository userRepository;
 
     @Bean
@@ -47,19 +58,35 @@ public class SecurityConfig {
 
 
     @Bean
-    public UserDetailsService userDetailsService() {
-        return new CustomUserDetailsService(userRepository);
+    public UserDetailsService userDetailsService(AuditLog auditLog) {
+        return new CustomUserDetailsService(userRepository, auditLog);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${app.security.hashing.threads:0}") int threads,
+                                           @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                poolSize, queueCapacity, meterRegistry);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         AuthenticationCache authenticationCache,
+                                                         LoginThrottle loginThrottle) {
+        DaoAuthenticationProvider daoProvider = new DaoAuthenticationProvider(userDetailsService);
+        daoProvider.setPasswordEncoder(passwordEncoder);
+        return new CachingAuthenticationProvider(daoProvider, authenticationCache, loginThrottle);
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    CustomAuthEntryPoint customAuthEntryPoint,
-                                                   CustomAccessDeniedHandler customAccessDeniedHandler) throws Exception {
+                                                   CustomAccessDeniedHandler customAccessDeniedHandler,
+                                                   AccessTokenService accessTokenService,
+                                                   EmployeeAuthorizationManagers access) throws Exception {
 
         http
 
@@ -69,9 +96,22 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/h2-console/**").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/h2-console/**").permitAll()
                                 .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/api/auth/token").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/api/admin/**").access(access.admin())
+                                .requestMatchers(HttpMethod.GET, MANAGER_READS).access(access.adminOrManager())
+                                .requestMatchers(HttpMethod.HEAD, MANAGER_READS).access(access.adminOrManager())
+                                .requestMatchers(HttpMethod.GET, EMPLOYEE_READ).access(access.adminOrManagerOrSelf())
+                                .requestMatchers(HttpMethod.HEAD, EMPLOYEE_READ).access(access.adminOrManagerOrSelf())
+                                .requestMatchers(HttpMethod.PUT, "/api/employees/id/{employeeId}").access(access.adminOrManagerOrSelf())
+                                .requestMatchers(HttpMethod.PUT, "/api/employees/id/{employeeId}/account").access(access.adminOrSelf())
+                                .requestMatchers(HttpMethod.POST, "/api/employees/exports").access(access.adminOrManager())
+                                .requestMatchers(HttpMethod.POST, "/api/employees").access(access.admin())
+                                .requestMatchers(HttpMethod.DELETE, "/api/employees/id/{employeeId}").access(access.admin())
                                 .requestMatchers("/api/**").authenticated()
                 )
-                .httpBasic(Customizer.withDefaults())
+                .addFilterBefore(new AccessTokenAuthenticationFilter(accessTokenService, customAuthEntryPoint), BasicAuthenticationFilter.class)
+                .httpBasic(basic -> basic.authenticationEntryPoint(customAuthEntryPoint))
                 .csrf(AbstractHttpConfigurer::disable)
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
                 .exceptionHandling(configurer ->
@@ -84,12 +124,9 @@ public class SecurityConfig {
 
 
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http,
-                                                       PasswordEncoder passwordEncoder,
-                                                       UserDetailsService userDetailsService) throws Exception {
-        AuthenticationManagerBuilder builder = http.getSharedObject(AuthenticationManagerBuilder.class);
-        builder.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder);
-        return builder.build();
+    public AuthenticationManager authenticationManager(AuthenticationProvider authenticationProvider) {
+        // No parent manager: a failed attempt must not be retried (and re-hashed, and re-throttled) by the global one
+        return new ProviderManager(authenticationProvider);
     }
 
 
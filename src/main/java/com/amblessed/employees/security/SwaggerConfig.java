@@ -14,5 +14,6 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @SecurityScheme(name = "basicAuth", type = SecuritySchemeType.HTTP, scheme = "basic")
+@SecurityScheme(name = "bearerAuth", type = SecuritySchemeType.HTTP, scheme = "bearer")
 public class SwaggerConfig {
 }
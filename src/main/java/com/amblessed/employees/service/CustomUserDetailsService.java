@@ -9,35 +9,41 @@ package com.amblessed.employees.service;
  */
 
 
+import com.amblessed.employees.audit.AuditEventType;
+import com.amblessed.employees.audit.AuditLog;
 import com.amblessed.employees.entity.CustomUserDetails;
-import com.amblessed.employees.entity.User;
+import com.amblessed.employees.entity.UserCredentials;
 import com.amblessed.employees.repository.UserRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
-    private final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
+    private final AuditLog auditLog;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, AuditLog auditLog) {
         this.userRepository = userRepository;
+        this.auditLog = auditLog;
     }
 
+    /**
+     * One projection query for the user and role, answered from the query cache once warm.
+     */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.info("Loading user: {}", username);
-        User user = userRepository.findByUserId(username)
+        auditLog.record(AuditEventType.USER_LOOKUP, username, null, null, null);
+        UserCredentials credentials = userRepository.findCredentials(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-        if (!user.isActive()) {
+        if (!credentials.active()) {
             throw new UsernameNotFoundException("User is inactive: " + username);
         }
-        return new CustomUserDetails(user);
+        return new CustomUserDetails(credentials);
     }
 }
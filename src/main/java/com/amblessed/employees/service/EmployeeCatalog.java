@@ -0,0 +1,140 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.DepartmentPositionCount;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.exception.ResourceNotFoundException;
+import com.amblessed.employees.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Departments and positions currently held by at least one employee, so search filters are validated
+ * (and their spelling normalised, case-insensitively) in memory instead of with an exists query per value.
+ * <p>
+ * Loaded with one grouped query on first use and after a reseed, then adjusted from
+ * {@link EmployeeChangedEvent}s. A write that commits while the load is running may be counted twice;
+ * that only matters once its department or position is emptied again, and the next reseed or restart corrects it.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeCatalog {
+
+    private final EmployeeRepository employeeRepository;
+
+    private volatile Snapshot snapshot; // null until loaded; written under this
+
+    /**
+     * Canonical spelling of each department, in the order given.
+     *
+     * @throws ResourceNotFoundException if no employee is in one of them
+     */
+    public List<String> resolveDepartments(Collection<String> values) {
+        return resolve(values, loaded().departments(),
+                value -> new ResourceNotFoundException(String.format("%s Department not found", value)));
+    }
+
+    /**
+     * Canonical spelling of each position, in the order given.
+     *
+     * @throws ResourceNotFoundException if no employee holds one of them
+     */
+    public List<String> resolvePositions(Collection<String> values) {
+        return resolve(values, loaded().positions(),
+                value -> new ResourceNotFoundException("Position not found with position: " + value));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.RELOADED) {
+            snapshot = null;
+            return;
+        }
+        if (snapshot == null) {
+            return; // the first load will see this write
+        }
+        adjust(event.previous(), -1);
+        adjust(event.current(), 1);
+    }
+
+    private Snapshot loaded() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                Snapshot fresh = new Snapshot(new Values(), new Values());
+                for (DepartmentPositionCount row : employeeRepository.countByDepartmentAndPosition()) {
+                    fresh.departments().add(row.department(), row.count());
+                    fresh.positions().add(row.position(), row.count());
+                }
+                snapshot = fresh;
+            }
+            return snapshot;
+        }
+    }
+
+    private void adjust(EmployeeResponse employee, long delta) {
+        if (employee != null) {
+            snapshot.departments().add(employee.getDepartment(), delta);
+            snapshot.positions().add(employee.getPosition(), delta);
+        }
+    }
+
+    private List<String> resolve(Collection<String> values, Values known,
+                                 Function<String, RuntimeException> notFound) {
+        List<String> resolved = new ArrayList<>(values.size());
+        for (String value : values) {
+            String canonical = known.canonical(value);
+            if (canonical == null) {
+                throw notFound.apply(value);
+            }
+            resolved.add(canonical);
+        }
+        return resolved;
+    }
+
+    /**
+     * Employee count per value, keyed case-insensitively; safe for concurrent reads while events adjust it.
+     */
+    private static final class Values {
+        private final Map<String, Entry> byKey = new ConcurrentHashMap<>();
+
+        void add(String value, long delta) {
+            if (value == null) {
+                return;
+            }
+            BiFunction<String, Entry, Entry> merge = (key, entry) -> {
+                long count = (entry == null ? 0 : entry.count()) + delta;
+                return count > 0 ? new Entry(entry == null ? value : entry.name(), count) : null;
+            };
+            byKey.compute(value.toLowerCase(Locale.ROOT), merge);
+        }
+
+        String canonical(String value) {
+            Entry entry = value == null ? null : byKey.get(value.strip().toLowerCase(Locale.ROOT));
+            return entry == null ? null : entry.name();
+        }
+    }
+
+    private record Entry(String name, long count) {
+    }
+
+    private record Snapshot(Values departments, Values positions) {
+    }
+}
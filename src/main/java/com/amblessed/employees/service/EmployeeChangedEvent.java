@@ -0,0 +1,44 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+
+/**
+ * Published after an employee record is created, updated or deleted, so derived data
+ * (cached counts, caches, indexes) can follow. {@code previous} is null for CREATED and
+ * {@code current} is null for DELETED; RELOADED means the whole table was rewritten and
+ * carries neither.
+ */
+public record EmployeeChangedEvent(Type type, String employeeId, EmployeeResponse previous, EmployeeResponse current) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RELOADED
+    }
+
+    public static EmployeeChangedEvent created(EmployeeResponse current) {
+        return new EmployeeChangedEvent(Type.CREATED, current.getEmployeeId(), null, current);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeResponse previous, EmployeeResponse current) {
+        return new EmployeeChangedEvent(Type.UPDATED, current.getEmployeeId(), previous, current);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeResponse previous) {
+        return new EmployeeChangedEvent(Type.DELETED, previous.getEmployeeId(), previous, null);
+    }
+
+    public static EmployeeChangedEvent reloaded() {
+        return new EmployeeChangedEvent(Type.RELOADED, null, null, null);
+    }
+}
@@ -0,0 +1,62 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeStamp;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Row counts per filter, with the latest update time alongside, so paged responses can report totals and
+ * ETags without an aggregate query per request.
+ * <p>
+ * Entries are keyed by filter and {@link EmployeeDataVersion}: a count that raced with a write is stored
+ * under the old version and never served again. Writes that bypass the service are only picked up
+ * when entries expire, hence the TTL.
+ */
+@Component
+public class EmployeeCountCache {
+
+    private final EmployeeDataVersion dataVersion;
+    private final Cache<CountKey, EmployeeStamp> cache;
+
+    public EmployeeCountCache(EmployeeDataVersion dataVersion,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.employees.count-cache.max-size:1000}") long maxSize,
+                              @Value("${app.employees.count-cache.ttl:PT10M}") Duration ttl) {
+        this.dataVersion = dataVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employees.count");
+    }
+
+    public EmployeeStamp stamp(String filterKey, Supplier<EmployeeStamp> loader) {
+        return cache.get(new CountKey(filterKey, dataVersion.current()), key -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record CountKey(String filterKey, long version) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the employee table, bumped after every committed write.
+ * Anything derived from employee rows can key on it: a value computed under an older
+ * version is simply never looked up again.
+ */
+@Component
+public class EmployeeDataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+    private final long startedAt = System.currentTimeMillis();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * The current version qualified by this process's start, so validators built on it cannot
+     * match one handed out before a restart, when the counter began again from zero.
+     */
+    public String tag() {
+        return startedAt + "-" + version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,157 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialises an export row by row as {@link EmployeeService#exportEmployees} reads it.
+ * Nothing is buffered beyond the writers' own chunk buffers, and {@code out} is flushed but never closed.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeExporter {
+
+    private static final String[] CSV_COLUMNS = {"employeeId", "firstName", "lastName", "email", "phoneNumber",
+            "department", "position", "salary", "hireDate", "performanceReview", "skills", "active"};
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return the number of rows written
+     */
+    public long write(ExportFormat format, String department, String position, BigDecimal salary,
+                      OutputStream out) throws IOException {
+        return write(format, department, position, salary, out, () -> { });
+    }
+
+    /**
+     * Same as {@link #write(ExportFormat, String, String, BigDecimal, OutputStream)}, calling {@code onRow}
+     * after each row is handed to the writer so callers can report progress.
+     */
+    public long write(ExportFormat format, String department, String position, BigDecimal salary,
+                      OutputStream out, Runnable onRow) throws IOException {
+        try {
+            return switch (format) {
+                case JSON -> writeJson(department, position, salary, out, onRow);
+                case NDJSON -> writeNdjson(department, position, salary, out, onRow);
+                case CSV -> writeCsv(department, position, salary, out, onRow);
+            };
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeJson(String department, String position, BigDecimal salary, OutputStream out,
+                           Runnable onRow) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartArray();
+            employeeService.exportEmployees(department, position, salary, employee -> {
+                try {
+                    generator.writeObject(employee);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows.incrementAndGet();
+                onRow.run();
+            });
+            generator.writeEndArray();
+        }
+        return rows.get();
+    }
+
+    private long writeNdjson(String department, String position, BigDecimal salary, OutputStream out,
+                             Runnable onRow) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try (JsonGenerator generator = createGenerator(out)) {
+            // One document per line, newline-terminated, with no separator between root values
+            generator.setRootValueSeparator(null);
+            employeeService.exportEmployees(department, position, salary, employee -> {
+                try {
+                    generator.writeObject(employee);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows.incrementAndGet();
+                onRow.run();
+            });
+        }
+        return rows.get();
+    }
+
+    private long writeCsv(String department, String position, BigDecimal salary, OutputStream out,
+                          Runnable onRow) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_COLUMNS));
+        writer.write("\r\n");
+        employeeService.exportEmployees(department, position, salary, employee -> {
+            try {
+                writeCsvRow(writer, employee);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows.incrementAndGet();
+            onRow.run();
+        });
+        writer.flush();
+        return rows.get();
+    }
+
+    private void writeCsvRow(Writer writer, EmployeeResponse e) throws IOException {
+        Object[] values = {e.getEmployeeId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getPhoneNumber(),
+                e.getDepartment(), e.getPosition(), e.getSalary() == null ? null : e.getSalary().toPlainString(),
+                e.getHireDate(), e.getPerformanceReview(), e.getSkills(), e.getActive()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(writer, values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 quoting: fields holding a comma, quote or line break are quoted and inner quotes doubled.
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
@@ -0,0 +1,58 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeFacets;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Facet counts per filter, keyed by filter and {@link EmployeeDataVersion} like {@link EmployeeCountCache},
+ * so the directory's unfiltered facets cost one grouped query per data change rather than per page view.
+ */
+@Component
+public class EmployeeFacetCache {
+
+    private final EmployeeDataVersion dataVersion;
+    private final Cache<FacetKey, EmployeeFacets> cache;
+
+    public EmployeeFacetCache(EmployeeDataVersion dataVersion,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.employees.facet-cache.max-size:200}") long maxSize,
+                              @Value("${app.employees.facet-cache.ttl:PT10M}") Duration ttl) {
+        this.dataVersion = dataVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employees.facets");
+    }
+
+    public EmployeeFacets facets(String filterKey, Supplier<EmployeeFacets> loader) {
+        return cache.get(new FacetKey(filterKey, dataVersion.current()), key -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record FacetKey(String filterKey, long version) {
+    }
+}
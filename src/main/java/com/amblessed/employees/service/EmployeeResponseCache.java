@@ -0,0 +1,96 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache of mapped {@link EmployeeResponse}s keyed by employee (user) id.
+ * <p>
+ * Caffeine's W-TinyLFU admission keeps the frequently read ids resident under the size bound. Writes evict
+ * exactly the affected id after commit; an invalidation that races an in-flight load waits for that load and
+ * then removes it, so a stale row is never left behind. Missing employees are not cached.
+ * Callers always get their own copy, so one that modifies its response cannot change what later readers see.
+ */
+@Component
+public class EmployeeResponseCache {
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeResponseCache.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final boolean enabled;
+    private final int warmUpSize;
+    private final Cache<String, EmployeeResponse> cache;
+
+    public EmployeeResponseCache(EmployeeRepository employeeRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.employees.response-cache.enabled:true}") boolean enabled,
+                                 @Value("${app.employees.response-cache.max-size:10000}") long maxSize,
+                                 @Value("${app.employees.response-cache.ttl:PT30M}") Duration ttl,
+                                 @Value("${app.employees.response-cache.warm-up-size:0}") int warmUpSize) {
+        this.employeeRepository = employeeRepository;
+        this.enabled = enabled;
+        this.warmUpSize = warmUpSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employees.responses");
+    }
+
+    public Optional<EmployeeResponse> find(String employeeId) {
+        if (!enabled) {
+            return employeeRepository.findResponseByUserId(employeeId);
+        }
+        return Optional.ofNullable(cache.get(employeeId, id -> employeeRepository.findResponseByUserId(id).orElse(null)))
+                .map(EmployeeResponse::copy);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.RELOADED) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(event.employeeId());
+        }
+    }
+
+    /**
+     * Optionally preloads the most recently updated employees once the application (and any seeding) is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled || warmUpSize <= 0) return;
+        PageRequest recent = PageRequest.of(0, warmUpSize, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        List<EmployeeResponse> employees = employeeRepository.findResponses(Specification.unrestricted(), recent).getContent();
+        employees.forEach(employee -> cache.put(employee.getEmployeeId(), employee));
+        log.info("Warmed employee cache with {} entries", employees.size());
+    }
+}
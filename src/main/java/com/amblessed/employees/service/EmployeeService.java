@@ -10,25 +10,42 @@ package com.amblessed.employees.service;
 
 
 
+import com.amblessed.employees.entity.AccountRequest;
+import com.amblessed.employees.entity.CursorPage;
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeFacets;
 import com.amblessed.employees.entity.EmployeeRequest;
 import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.EmployeeSearchCriteria;
+import com.amblessed.employees.entity.EmployeeStamp;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
 
     Page<EmployeeResponse> findAll(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Slice<EmployeeResponse> findSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    CursorPage<EmployeeResponse> findAllAfter(String cursor, Integer pageSize, String sortBy, String sortDirection);
     EmployeeResponse findByEmail(String email);
     List<EmployeeResponse> findByFirstName(String firstName);
     List<EmployeeResponse> findByLastName(String lastName);
     EmployeeResponse registerEmployee(EmployeeRequest employeeRequest);
     EmployeeResponse update(String id, EmployeeRequest employeeRequest);
+    void updateAccount(String employeeId, AccountRequest accountRequest);
     EmployeeResponse deleteByEmployeeId(String employeeId);
-    List<EmployeeResponse> filterEmployees(String department, String position, BigDecimal salary);
-    List<EmployeeResponse> exportEmployees(String department, String position, BigDecimal salary);
+    Slice<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria, Integer pageNumber, Integer pageSize,
+                                            String sortBy, String sortDirection);
+    void exportEmployees(String department, String position, BigDecimal salary, Consumer<EmployeeResponse> sink);
+    long countEmployees(String department, String position, BigDecimal salary);
+    EmployeeStamp stamp(String department, String position, BigDecimal salary);
+    EmployeeStamp stamp(EmployeeSearchCriteria criteria);
+    EmployeeFacets facets(EmployeeSearchCriteria criteria);
+    EmployeeSearchCriteria resolve(EmployeeSearchCriteria criteria);
+    List<EmployeeAggregate> aggregate(EmployeeSearchCriteria criteria, EmployeeAggregate.GroupBy groupBy);
     EmployeeResponse findByEmployeeId(String employeeId);
-    boolean existsByDepartment(String department);
-    boolean existsByPosition(String position);
+    List<EmployeeResponse> findByEmployeeIds(List<String> employeeIds);
 }
@@ -10,6 +10,7 @@ package com.amblessed.employees.service;
 
 import com.amblessed.employees.config.EmployeeGenerator;
 import com.amblessed.employees.entity.*;
+import com.amblessed.employees.exception.InvalidParameterException;
 import com.amblessed.employees.exception.InvalidPasswordException;
 import com.amblessed.employees.mapper.EmployeeMapper;
 import com.amblessed.employees.config.AppConstants;
@@ -17,7 +18,10 @@ import com.amblessed.employees.exception.ResourceNotFoundException;
 import com.amblessed.employees.repository.EmployeeRepository;
 import com.amblessed.employees.repository.RoleRepository;
 import com.amblessed.employees.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,8 +29,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,37 +48,124 @@ public class EmployeeServiceImpl implements EmployeeService{
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeCountCache countCache;
+    private final EmployeeResponseCache responseCache;
+    private final EmployeeCatalog catalog;
+    private final EmployeeFacetCache facetCache;
+
+    @Value("${app.employees.export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Value("${app.search.facets.salary-bands:50000,75000,100000,150000}")
+    private List<BigDecimal> salaryBands;
+
+    @PostConstruct
+    void checkSalaryBands() {
+        if (salaryBands.isEmpty()) {
+            throw new IllegalArgumentException("At least one salary band boundary is required");
+        }
+        for (int i = 1; i < salaryBands.size(); i++) {
+            if (salaryBands.get(i - 1).compareTo(salaryBands.get(i)) >= 0) {
+                throw new IllegalArgumentException("Salary bands must be strictly ascending: " + salaryBands);
+            }
+        }
+    }
 
+    /**
+     * Same page as before, but the total comes from {@link EmployeeCountCache} instead of a COUNT per request.
+     */
     @Override
     public Page<EmployeeResponse> findAll(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        Slice<EmployeeResponse> slice = findSlice(pageNumber, pageSize, sortBy, sortDirection);
+        long total = stamp(null, null, null).count();
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * Reads one row past the page to answer {@code hasNext}; never issues a COUNT.
+     */
+    @Override
+    public Slice<EmployeeResponse> findSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, getSort(sortBy, sortDirection));
-        Page<Employee> employees = employeeRepository.findAll(pageDetails);
-        return employees.map(this::mapToResponse);
+        return employeeRepository.findResponses(Specification.unrestricted(), pageDetails);
     }
 
+    /**
+     * Keyset paging: seeks past the cursor's (sort keys..., employeeId) tuple instead of skipping OFFSET rows,
+     * and reads one extra row to learn {@code hasNext}, so no COUNT query is issued.
+     */
     @Override
-    public List<EmployeeResponse> filterEmployees(String department, String position, BigDecimal salary) {
-        Specification<Employee> spec = null;
-        if (department != null) {
-            if (!existsByDepartment(department)) {
-                throw new ResourceNotFoundException(String.format("%s Department not found", department));
-            }
-            spec = EmployeeSpecification.hasDepartment(department);
+    public CursorPage<EmployeeResponse> findAllAfter(String cursor, Integer pageSize, String sortBy, String sortDirection) {
+        if (pageSize == null || pageSize < 1) {
+            throw new InvalidParameterException("Page size must be at least 1");
         }
-        if (position != null) {
-            if (!existsByPosition(position)) {
-                throw new ResourceNotFoundException("Position not found with position: " + position);
+        String sortKey = keysetSortKey(sortBy);
+        String direction = sortDirection.equals("asc") ? "asc" : "desc";
+        List<String> attributes = keysetAttributes(sortKey);
+
+        Specification<Employee> spec = Specification.unrestricted();
+        if (cursor != null && !cursor.isBlank()) {
+            EmployeeCursor after = EmployeeCursor.decode(cursor);
+            if (!after.sortBy().equals(sortKey) || !after.direction().equals(direction)
+                    || after.values().size() != attributes.size()) {
+                throw new InvalidParameterException("Cursor does not match the requested sort; restart paging without a cursor");
             }
-            spec = (spec == null) ? EmployeeSpecification.hasPosition(position)
-                    : spec.and(EmployeeSpecification.hasPosition(position));
+            spec = EmployeeSpecification.seekAfter(attributes, after.values(), after.employeeId(), direction.equals("asc"));
         }
-        if (salary != null) {
-            spec = (spec == null) ? EmployeeSpecification.hasSalary(salary)
-                    : spec.and(EmployeeSpecification.hasSalary(salary));
+
+        List<String> sortProperties = new ArrayList<>(attributes);
+        sortProperties.add("user.userId");
+        Sort sort = Sort.by(direction.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortProperties.toArray(String[]::new));
+        Slice<EmployeeResponse> rows = employeeRepository.findResponses(spec, PageRequest.of(0, pageSize, sort));
+
+        String nextCursor = null;
+        if (rows.hasNext()) {
+            EmployeeResponse last = rows.getContent().getLast();
+            List<String> values = attributes.stream().map(attribute -> keysetValue(last, attribute)).toList();
+            nextCursor = new EmployeeCursor(sortKey, direction, values, last.getEmployeeId()).encode();
         }
-        Pageable pageDetails = PageRequest.of(0, 20, getSort(AppConstants.SORT_BY_FIRSTNAME, AppConstants.SORT_DIRECTION));
-        Page<Employee> employees = (spec == null) ? employeeRepository.findAll(pageDetails) : employeeRepository.findAll(spec, pageDetails);
-        return employees.stream().map(this::mapToResponse).toList();
+        return new CursorPage<>(rows.getContent(), pageSize, rows.hasNext(), nextCursor);
+    }
+
+    /**
+     * Department and position values are checked against {@link EmployeeCatalog} in memory, so an unknown value
+     * is a 404 without touching the database and a valid search is one statement: every filter compiles into a
+     * single {@link EmployeeSpecification#matching} predicate and the page reads one extra row for {@code hasNext}.
+     */
+    @Override
+    public Slice<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria, Integer pageNumber, Integer pageSize,
+                                                   String sortBy, String sortDirection) {
+        if (pageNumber == null || pageNumber < 0 || pageSize == null || pageSize < 1) {
+            throw new InvalidParameterException("Page must be >= 0 and page size at least 1");
+        }
+        if (!SEARCH_SORTS.contains(sortBy)) {
+            throw new InvalidParameterException("Sort must be one of " + SEARCH_SORTS);
+        }
+        if (!"asc".equals(sortDirection) && !"desc".equals(sortDirection)) {
+            throw new InvalidParameterException("Direction must be asc or desc");
+        }
+        Specification<Employee> spec = EmployeeSpecification.matching(resolve(criteria));
+        // The employee id breaks ties so offset pages never overlap or skip rows
+        Sort sort = getSort(sortBy, sortDirection)
+                .and(Sort.by(sortDirection.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, "user.userId"));
+        return employeeRepository.findResponses(spec, PageRequest.of(pageNumber, pageSize, sort));
+    }
+
+    /**
+     * Rejects inverted ranges and replaces department and position values with their canonical spelling.
+     */
+    @Override
+    public EmployeeSearchCriteria resolve(EmployeeSearchCriteria criteria) {
+        if (criteria.minSalary() != null && criteria.maxSalary() != null
+                && criteria.minSalary().compareTo(criteria.maxSalary()) > 0) {
+            throw new InvalidParameterException("Minimum salary must not exceed maximum salary");
+        }
+        if (criteria.hiredFrom() != null && criteria.hiredTo() != null && criteria.hiredFrom().isAfter(criteria.hiredTo())) {
+            throw new InvalidParameterException("hiredFrom must not be after hiredTo");
+        }
+        return criteria.withValues(catalog.resolveDepartments(criteria.departments()),
+                catalog.resolvePositions(criteria.positions()));
     }
 
     // ------------------- DELETE -------------------
@@ -75,43 +173,97 @@ public class EmployeeServiceImpl implements EmployeeService{
     public EmployeeResponse deleteByEmployeeId(String employeeId) {
         EmployeeResponse employee = findByEmployeeId(employeeId);
         employeeRepository.deleteByEmployeeId(employeeId);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(employeeId));
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
         return employee;
     }
 
     // ------------------- EXPORT -------------------
+
+    /**
+     * Hands each matching row to {@code sink} as it is read from a forward-only cursor, so memory stays flat
+     * whatever the row count. Rows are DTO projections, so the persistence context never fills up.
+     */
     @Override
-    public List<EmployeeResponse> exportEmployees(String department, String position, BigDecimal salary) {
-        Specification<Employee> spec = null;
-        if (department != null) {
-            spec = EmployeeSpecification.hasDepartment(department);
-        }
-        if (position != null) {
-            spec = (spec == null) ? EmployeeSpecification.hasPosition(position)
-                    : spec.and(EmployeeSpecification.hasPosition(position));
+    @Transactional(readOnly = true)
+    public void exportEmployees(String department, String position, BigDecimal salary, Consumer<EmployeeResponse> sink) {
+        Specification<Employee> spec = EmployeeSpecification.matching(EmployeeSearchCriteria.of(department, position, salary));
+        try (Stream<EmployeeResponse> rows = employeeRepository.streamResponses(spec, Sort.unsorted(), exportFetchSize)) {
+            rows.forEach(sink);
         }
-        if (salary != null) {
-            spec = (spec == null) ? EmployeeSpecification.hasSalary(salary)
-                    : spec.and(EmployeeSpecification.hasSalary(salary));
-        }
-        List<Employee> employees = (spec == null) ? employeeRepository.findAll() : employeeRepository.findAll(spec);
-        return employees.stream().map(this::mapToResponse).toList();
     }
 
     @Override
-    public EmployeeResponse findByEmployeeId(String employeeId) {
-        Employee employee = employeeRepository.findByUser_UserId(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with employeeId: " + employeeId));
-        return mapToResponse(employee);
+    public long countEmployees(String department, String position, BigDecimal salary) {
+        return stamp(department, position, salary).count();
+    }
+
+    /**
+     * Count and latest update of a filter's result, served from {@link EmployeeCountCache} while the data is unchanged.
+     */
+    @Override
+    public EmployeeStamp stamp(String department, String position, BigDecimal salary) {
+        return cachedStamp(EmployeeSearchCriteria.of(department, position, salary));
+    }
+
+    /**
+     * Same as above for a search's criteria, validated the way {@link #searchEmployees} validates them.
+     */
+    @Override
+    public EmployeeStamp stamp(EmployeeSearchCriteria criteria) {
+        return cachedStamp(resolve(criteria));
+    }
+
+    /**
+     * Facet counts under the same validated filter as {@link #searchEmployees}, from one grouped query
+     * per filter and data version.
+     */
+    @Override
+    public EmployeeFacets facets(EmployeeSearchCriteria criteria) {
+        EmployeeSearchCriteria resolved = resolve(criteria);
+        return facetCache.facets(resolved.key(), () -> EmployeeFacets.of(
+                employeeRepository.facetCounts(EmployeeSpecification.matching(resolved), salaryBands), salaryBands));
     }
 
+    /**
+     * Grouped headcount and salary totals under the same validated filter as {@link #searchEmployees}, computed
+     * by the database. This is the fallback (and the reference) for the in-memory columnar replica.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeAggregate> aggregate(EmployeeSearchCriteria criteria, EmployeeAggregate.GroupBy groupBy) {
+        if (groupBy == EmployeeAggregate.GroupBy.SKILL) {
+            throw new InvalidParameterException("Grouping by skill needs the columnar replica, which is not available");
+        }
+        return employeeRepository.aggregate(EmployeeSpecification.matching(resolve(criteria)), groupBy);
+    }
+
+    private EmployeeStamp cachedStamp(EmployeeSearchCriteria criteria) {
+        return countCache.stamp(criteria.key(), () -> employeeRepository.stamp(EmployeeSpecification.matching(criteria)));
+    }
+
+    /**
+     * Served from {@link EmployeeResponseCache}; only a miss reaches the database.
+     */
     @Override
-    public boolean existsByDepartment(String department) {
-        return employeeRepository.existsByDepartment((department));
+    public EmployeeResponse findByEmployeeId(String employeeId) {
+        return responseCache.find(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with employeeId: " + employeeId));
     }
 
+    /**
+     * One query for a batch of ids (e.g. a page of search hits), returned in the order the ids were given;
+     * ids that no longer exist are skipped.
+     */
     @Override
-    public boolean existsByPosition(String position) {
-        return employeeRepository.existsByPosition(position);
+    public List<EmployeeResponse> findByEmployeeIds(List<String> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, EmployeeResponse> byId = employeeRepository
+                .findAllResponses(EmployeeSpecification.hasUserIdIn(employeeIds), Sort.unsorted()).stream()
+                .collect(Collectors.toMap(EmployeeResponse::getEmployeeId, Function.identity()));
+        return employeeIds.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
 
@@ -163,21 +315,58 @@ public class EmployeeServiceImpl implements EmployeeService{
         role.setUser(user);
         roleRepository.save(role);
 
-        return mapToResponse(savedEmployee);
+        EmployeeResponse response = mapToResponse(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(response));
+        return response;
     }
 
     @Override
+    @Transactional
     public EmployeeResponse update(String id, EmployeeRequest employeeRequest) {
-        employeeRepository.findByUser_UserId(id);
-        Employee employee = convertToEmployee(employeeRequest);
+        Employee employee = employeeRepository.findByUser_UserId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with employeeId: " + id));
+        EmployeeResponse previous = mapToResponse(employee);
+        employeeMapper.updateEmployee(employeeRequest, employee);
         Employee savedEmployee = employeeRepository.save(employee);
-        return mapToResponse(savedEmployee);
+        EmployeeResponse response = mapToResponse(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, response));
+        return response;
+    }
+
+    /**
+     * Sets a new password and/or the active flag of the employee's login. Either one means logins verified
+     * before it must not be trusted any more, so the change is announced once it commits.
+     */
+    @Override
+    @Transactional
+    public void updateAccount(String employeeId, AccountRequest accountRequest) {
+        String password = accountRequest.getPassword();
+        Boolean active = accountRequest.getActive();
+        if (password == null && active == null) {
+            throw new InvalidParameterException("A new password or an active flag is required");
+        }
+        User user = userRepository.findByUserId(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with employeeId: " + employeeId));
+        if (password != null) {
+            if (!EmployeeGenerator.isValidPassword(password)) {
+                throw new InvalidPasswordException("Password must be at least 8 characters long and contain at least one uppercase letter, one lowercase letter, one digit, and one special character!");
+            }
+            user.setPassword(passwordEncoder.encode(password));
+        }
+        if (active != null) {
+            user.setActive(active);
+        }
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(employeeId));
     }
 
     private Employee convertToEmployee(EmployeeRequest employeeRequest) {
         return employeeMapper.toEmployee(employeeRequest);
     }
 
+    private static final List<String> SEARCH_SORTS = List.of(AppConstants.SORT_BY_FIRSTNAME, AppConstants.SORT_BY_LASTNAME,
+            AppConstants.SORT_BY_DEPARTMENT, AppConstants.SORT_BY_SALARY, AppConstants.SORT_BY_HIRE_DATE);
+
     private Sort getSort(String sortBy, String sortDirection){
         Sort.Direction direction = sortDirection.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         return switch (sortBy) {
@@ -186,12 +375,46 @@ public class EmployeeServiceImpl implements EmployeeService{
             case "department" -> Sort.by(direction, AppConstants.SORT_BY_DEPARTMENT)
                     .and(Sort.by(direction, AppConstants.SORT_BY_FIRSTNAME))
                     .and(Sort.by(direction, AppConstants.SORT_BY_LASTNAME));
+            case "salary" -> Sort.by(direction, AppConstants.SORT_BY_SALARY)
+                    .and(Sort.by(direction, AppConstants.SORT_BY_FIRSTNAME))
+                    .and(Sort.by(direction, AppConstants.SORT_BY_LASTNAME));
+            case "hireDate" -> Sort.by(direction, AppConstants.SORT_BY_HIRE_DATE)
+                    .and(Sort.by(direction, AppConstants.SORT_BY_FIRSTNAME))
+                    .and(Sort.by(direction, AppConstants.SORT_BY_LASTNAME));
             case null, default -> Sort.by(direction, AppConstants.SORT_BY_FIRSTNAME)
                     .and(Sort.by(direction, AppConstants.SORT_BY_LASTNAME));
         };
     }
 
 
+    private String keysetSortKey(String sortBy) {
+        return switch (sortBy) {
+            case "lastName" -> AppConstants.SORT_BY_LASTNAME;
+            case "department" -> AppConstants.SORT_BY_DEPARTMENT;
+            case null, default -> AppConstants.SORT_BY_FIRSTNAME;
+        };
+    }
+
+    /**
+     * Same leading keys as {@link #getSort}; {@code user.userId} is appended by the caller as the unique tie-breaker.
+     */
+    private List<String> keysetAttributes(String sortKey) {
+        return switch (sortKey) {
+            case AppConstants.SORT_BY_LASTNAME -> List.of(AppConstants.SORT_BY_LASTNAME, AppConstants.SORT_BY_FIRSTNAME);
+            case AppConstants.SORT_BY_DEPARTMENT -> List.of(AppConstants.SORT_BY_DEPARTMENT,
+                    AppConstants.SORT_BY_FIRSTNAME, AppConstants.SORT_BY_LASTNAME);
+            default -> List.of(AppConstants.SORT_BY_FIRSTNAME, AppConstants.SORT_BY_LASTNAME);
+        };
+    }
+
+    private String keysetValue(EmployeeResponse employee, String attribute) {
+        return switch (attribute) {
+            case AppConstants.SORT_BY_LASTNAME -> employee.getLastName();
+            case AppConstants.SORT_BY_DEPARTMENT -> employee.getDepartment();
+            default -> employee.getFirstName();
+        };
+    }
+
     public EmployeeResponse mapToResponse(Employee employee) {
         EmployeeResponse response = new EmployeeResponse();
         response.setEmployeeId(employee.getUser().getUserId());
@@ -206,6 +429,7 @@ public class EmployeeServiceImpl implements EmployeeService{
         response.setPerformanceReview(employee.getPerformanceReview());
         response.setSkills(employee.getSkills());
         response.setActive(employee.getActive());
+        response.setUpdatedAt(employee.getUpdatedAt());
         return response;
     }
 
@@ -0,0 +1,298 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.PositionSalary;
+import com.amblessed.employees.entity.SalaryPercentiles;
+import com.amblessed.employees.entity.SalaryStats;
+import com.amblessed.employees.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Headcount and salary aggregates per (department, position), kept in memory and adjusted from
+ * {@link EmployeeChangedEvent}s, so dashboards never scan the table.
+ * <p>
+ * Each group's salaries live in a sorted multiset, so min and max stay exact when the current extreme leaves,
+ * and in a {@link SalarySketch} for percentiles, which merges cheaply into department and organisation totals.
+ * Groups are guarded by one of a fixed set of locks striped by department: writes to different departments do
+ * not contend, and a reader snapshots each group under its stripe. A periodic reconciliation compares every
+ * group with one grouped aggregate query and reloads the departments that drifted (writes that bypassed the
+ * service, or an event that raced a reload).
+ */
+@Component
+public class EmployeeStatistics {
+
+    private static final int STRIPES = 16;
+    private static final int[] PERCENTILES = {25, 50, 75, 90};
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeStatistics.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final Map<GroupKey, Group> groups = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final Counter corrections;
+    private final double percentileAccuracy;
+    private volatile boolean loaded;
+
+    public EmployeeStatistics(EmployeeRepository employeeRepository, MeterRegistry meterRegistry,
+                              @Value("${app.employees.stats.percentile-accuracy:0.01}") double percentileAccuracy) {
+        this.employeeRepository = employeeRepository;
+        this.percentileAccuracy = percentileAccuracy;
+        new SalarySketch(percentileAccuracy); // fail at startup on a bad setting
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.corrections = Counter.builder("employees.stats.corrections")
+                .description("Departments reloaded because their in-memory aggregates drifted from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * One entry per department, or per (department, position) when {@code byPosition} is set, ordered by name.
+     */
+    public List<SalaryStats> stats(boolean byPosition) {
+        if (!loaded) {
+            reconcile();
+        }
+        Map<GroupKey, SalaryStats> merged = new TreeMap<>();
+        for (Map.Entry<GroupKey, Group> entry : groups.entrySet()) {
+            GroupKey key = entry.getKey();
+            SalaryStats stats = locked(key.department(), () -> entry.getValue().snapshot(key));
+            if (stats.headcount() == 0) {
+                continue;
+            }
+            if (byPosition) {
+                merged.put(key, stats);
+            } else {
+                merged.merge(new GroupKey(key.department(), null), new SalaryStats(key.department(), null,
+                        stats.headcount(), stats.total(), stats.min(), stats.max()), EmployeeStatistics::combine);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Relative error bound of every reported percentile: the value returned for p50 is within this fraction of
+     * the median salary.
+     */
+    public double percentileAccuracy() {
+        return percentileAccuracy;
+    }
+
+    /**
+     * Percentiles per department, or per (department, position), merged from the groups' sketches.
+     */
+    public List<SalaryPercentiles> percentiles(boolean byPosition) {
+        Map<GroupKey, SalarySketch> merged = new TreeMap<>();
+        sketches().forEach((key, sketch) -> merged.merge(byPosition ? key : new GroupKey(key.department(), null),
+                sketch, (a, b) -> {
+                    a.mergeFrom(b);
+                    return a;
+                }));
+        List<SalaryPercentiles> result = new ArrayList<>(merged.size());
+        merged.forEach((key, sketch) -> result.add(percentiles(key.department(), key.position(), sketch)));
+        return result;
+    }
+
+    /**
+     * Percentiles of the whole organisation, merged from every group's sketch.
+     */
+    public SalaryPercentiles overallPercentiles() {
+        SalarySketch all = new SalarySketch(percentileAccuracy);
+        sketches().values().forEach(all::mergeFrom);
+        return percentiles(null, null, all);
+    }
+
+    private Map<GroupKey, SalarySketch> sketches() {
+        if (!loaded) {
+            reconcile();
+        }
+        Map<GroupKey, SalarySketch> copies = new HashMap<>();
+        groups.forEach((key, group) -> {
+            SalarySketch copy = locked(key.department(), () -> group.sketch.copy());
+            if (copy.count() > 0) {
+                copies.put(key, copy);
+            }
+        });
+        return copies;
+    }
+
+    private static SalaryPercentiles percentiles(String department, String position, SalarySketch sketch) {
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        for (int percentile : PERCENTILES) {
+            values.put("p" + percentile, sketch.quantile(percentile / 100.0));
+        }
+        return new SalaryPercentiles(department, position, sketch.count(), values);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.RELOADED) {
+            loaded = false; // a reseed is a reload, not drift
+            reconcile();
+            return;
+        }
+        if (!loaded) {
+            return; // the first reconciliation will read this write
+        }
+        // Not atomic across departments: a reader may briefly miss an employee who is moving between them
+        apply(event.previous(), -1);
+        apply(event.current(), 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!loaded) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Reloads every department whose aggregates differ from the database's.
+     *
+     * @return the number of departments reloaded
+     */
+    @Scheduled(fixedDelayString = "${app.employees.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${app.employees.stats.reconcile-interval:PT10M}")
+    public synchronized int reconcile() {
+        Map<GroupKey, SalaryStats> actual = new HashMap<>();
+        for (SalaryStats row : employeeRepository.salaryStats()) {
+            actual.put(new GroupKey(row.department(), row.position()), row);
+        }
+        Set<String> drifted = new TreeSet<>();
+        actual.forEach((key, stats) -> {
+            Group group = groups.get(key);
+            if (group == null || !locked(key.department(), () -> group.snapshot(key).sameTotals(stats))) {
+                drifted.add(key.department());
+            }
+        });
+        groups.forEach((key, group) -> {
+            if (!actual.containsKey(key) && locked(key.department(), () -> group.count > 0)) {
+                drifted.add(key.department());
+            }
+        });
+
+        drifted.forEach(this::reload);
+        if (loaded && !drifted.isEmpty()) {
+            corrections.increment(drifted.size());
+            log.warn("Salary statistics drifted from the database; reloaded {}", drifted);
+        }
+        loaded = true;
+        return drifted.size();
+    }
+
+    private void reload(String department) {
+        locked(department, () -> {
+            groups.keySet().removeIf(key -> key.department().equals(department));
+            for (PositionSalary row : employeeRepository.findPositionSalaries(department)) {
+                groups.computeIfAbsent(new GroupKey(department, row.position()), key -> new Group(percentileAccuracy)).add(row.salary());
+            }
+            return null;
+        });
+    }
+
+    private void apply(EmployeeResponse employee, int sign) {
+        if (employee == null || employee.getDepartment() == null || employee.getSalary() == null) {
+            return;
+        }
+        GroupKey key = new GroupKey(employee.getDepartment(), employee.getPosition());
+        locked(key.department(), () -> {
+            Group group = groups.computeIfAbsent(key, k -> new Group(percentileAccuracy));
+            if (sign > 0) {
+                group.add(employee.getSalary());
+            } else {
+                group.remove(employee.getSalary());
+            }
+            return null;
+        });
+    }
+
+    private <T> T locked(String department, Supplier<T> action) {
+        ReentrantLock lock = stripes[Math.floorMod(department.hashCode(), STRIPES)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static SalaryStats combine(SalaryStats a, SalaryStats b) {
+        return new SalaryStats(a.department(), null, a.headcount() + b.headcount(), a.total().add(b.total()),
+                either(a.min(), b.min(), BigDecimal::min), either(a.max(), b.max(), BigDecimal::max));
+    }
+
+    private static BigDecimal either(BigDecimal a, BigDecimal b, BinaryOperator<BigDecimal> pick) {
+        return a == null ? b : b == null ? a : pick.apply(a, b);
+    }
+
+    private record GroupKey(String department, String position) implements Comparable<GroupKey> {
+
+        private static final Comparator<GroupKey> ORDER = Comparator.comparing(GroupKey::department)
+                .thenComparing(GroupKey::position, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        @Override
+        public int compareTo(GroupKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Guarded by the stripe of its department.
+     */
+    private static final class Group {
+        private final TreeMap<BigDecimal, Integer> salaries = new TreeMap<>();
+        private final SalarySketch sketch;
+        private long count;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        Group(double percentileAccuracy) {
+            this.sketch = new SalarySketch(percentileAccuracy);
+        }
+
+        void add(BigDecimal salary) {
+            salaries.merge(salary, 1, Integer::sum);
+            sketch.add(salary);
+            count++;
+            total = total.add(salary);
+        }
+
+        void remove(BigDecimal salary) {
+            salaries.computeIfPresent(salary, (s, n) -> n == 1 ? null : n - 1);
+            sketch.remove(salary);
+            count--;
+            total = total.subtract(salary);
+        }
+
+        SalaryStats snapshot(GroupKey key) {
+            if (count <= 0 || salaries.isEmpty()) {
+                return new SalaryStats(key.department(), key.position(), Math.max(count, 0), total, null, null);
+            }
+            return new SalaryStats(key.department(), key.position(), count, total, salaries.firstKey(), salaries.lastKey());
+        }
+    }
+}
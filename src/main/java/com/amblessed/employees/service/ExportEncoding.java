@@ -0,0 +1,117 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings applied to exports on the fly, picked from {@code Accept-Encoding}.
+ */
+public enum ExportEncoding {
+
+    GZIP("gzip"),
+    DEFLATE("deflate"),
+    IDENTITY(null);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String token;
+
+    ExportEncoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Value for the {@code Content-Encoding} header, or null when the body is sent as is.
+     */
+    public String contentEncoding() {
+        return token;
+    }
+
+    /**
+     * Picks the coding with the highest quality (RFC 9110 section 12.5.3). A coding listed by name takes its own
+     * q-value, so {@code gzip;q=0} refuses gzip even when {@code *} is accepted; an unlisted coding takes the
+     * q-value of {@code *}, and identity is acceptable unless something says otherwise. Ties go to gzip,
+     * then deflate, then identity.
+     */
+    public static ExportEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        Map<String, Double> qualities = new HashMap<>();
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.isEmpty()) {
+                qualities.merge("x-gzip".equals(coding) ? "gzip" : coding, quality(params), Math::max);
+            }
+        }
+        Double any = qualities.get("*");
+        ExportEncoding best = IDENTITY;
+        double bestQuality = 0;
+        for (ExportEncoding encoding : values()) {
+            String name = encoding.token == null ? "identity" : encoding.token;
+            double quality = qualities.getOrDefault(name, any != null ? any : encoding == IDENTITY ? 1 : 0);
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Wraps the response stream. Closing the returned stream finishes the compressed trailer
+     * but leaves {@code out} open for the container to complete.
+     */
+    public OutputStream wrap(OutputStream out) throws IOException {
+        OutputStream shielded = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                this.out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        return switch (this) {
+            case GZIP -> new GZIPOutputStream(shielded, BUFFER_SIZE);
+            case DEFLATE -> new DeflaterOutputStream(shielded);
+            case IDENTITY -> shielded;
+        };
+    }
+
+    /**
+     * The {@code q} parameter, 1 when absent; a malformed value counts as a refusal.
+     */
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith("q=")) {
+                try {
+                    double quality = Double.parseDouble(param.substring(2));
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
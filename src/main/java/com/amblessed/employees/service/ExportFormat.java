@@ -0,0 +1,93 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.exception.InvalidParameterException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Export payload formats. An explicit {@code format=} parameter wins; otherwise the type the {@code Accept} header
+ * rates highest is used, ties going to the earlier constant, falling back to a JSON array.
+ */
+public enum ExportFormat {
+
+    JSON("json", MediaType.APPLICATION_JSON),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    CSV("csv", new MediaType("text", "csv"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat negotiate(String format, String accept) {
+        if (format != null && !format.isBlank()) {
+            for (ExportFormat candidate : values()) {
+                if (candidate.extension.equalsIgnoreCase(format.trim())) {
+                    return candidate;
+                }
+            }
+            throw new InvalidParameterException("Unsupported export format: " + format + " (expected json, ndjson or csv)");
+        }
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        ExportFormat best = JSON;
+        double bestQuality = 0;
+        for (ExportFormat candidate : values()) {
+            double quality = quality(candidate.mediaType, acceptable);
+            if (quality > bestQuality) {
+                best = candidate;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The q-value of the most specific range that includes {@code type}, so {@code text/csv;q=0} refuses CSV
+     * even under an accepted {@code *}{@code /*}; 0 when no range includes it.
+     */
+    private static double quality(MediaType type, List<MediaType> acceptable) {
+        int bestSpecificity = -1;
+        double quality = 0;
+        for (MediaType range : acceptable) {
+            if (!range.includes(type)) {
+                continue;
+            }
+            int specificity = range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+            if (specificity > bestSpecificity) {
+                bestSpecificity = specificity;
+                quality = range.getQualityValue();
+            }
+        }
+        return quality;
+    }
+}
@@ -0,0 +1,112 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One background export: its filters, where it spools to and how far it has got.
+ * Progress fields are written by the export worker and read by status requests.
+ * <p>
+ * A download leases the file until a deadline and the sweeper only expires a job without a live lease;
+ * both go through the job's monitor, so a file is never deleted under a download that has started.
+ */
+@Getter
+public class ExportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final String owner;
+    private final ExportFormat format;
+    private final String department;
+    private final String position;
+    private final BigDecimal salary;
+    private final Path file;
+    private final Instant createdAt = Instant.now();
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long totalRows = -1;
+    private volatile long sizeBytes = -1;
+    private volatile Instant completedAt;
+    private volatile String error;
+    private Instant leasedUntil = Instant.MIN;
+    private boolean expired;
+
+    ExportJob(String id, String owner, ExportFormat format, String department, String position, BigDecimal salary,
+              Path file) {
+        this.id = id;
+        this.owner = owner;
+        this.format = format;
+        this.department = department;
+        this.position = position;
+        this.salary = salary;
+        this.file = file;
+    }
+
+    void running(long totalRows) {
+        this.totalRows = totalRows;
+        this.status = Status.RUNNING;
+    }
+
+    void completed(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+        this.completedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        this.completedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * @return false if the file has already been given up to the sweeper
+     */
+    synchronized boolean lease(Instant until) {
+        if (expired) return false;
+        if (until.isAfter(leasedUntil)) {
+            leasedUntil = until;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the file may be deleted, i.e. no download holds a lease at {@code now}
+     */
+    synchronized boolean expire(Instant now) {
+        if (leasedUntil.isAfter(now)) return false;
+        expired = true;
+        return true;
+    }
+
+    /**
+     * Percentage of the expected rows written so far, or null before the row count is known.
+     */
+    public Integer progress() {
+        if (status == Status.COMPLETED) return 100;
+        long total = totalRows;
+        if (total < 0) return null;
+        if (total == 0) return 0;
+        return (int) Math.min(99, rowsWritten.get() * 100 / total);
+    }
+}
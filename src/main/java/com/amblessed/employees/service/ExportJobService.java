@@ -0,0 +1,199 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.exception.ExportExpiredException;
+import com.amblessed.employees.exception.ExportUnavailableException;
+import com.amblessed.employees.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs exports on a small worker pool, spooling each to a local file that can be downloaded (and resumed)
+ * later without running the query again.
+ * <p>
+ * A job writes {@code <id>.<ext>.part} and renames it once complete, so a served file is always whole.
+ * Jobs and their files are kept in memory and on disk for {@code app.exports.retention}, then swept.
+ * When every worker is busy and the queue is full, new jobs are refused with {@link ExportUnavailableException}.
+ */
+@Service
+public class ExportJobService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final Pattern SPOOL_FILE = Pattern.compile(
+            "\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}\\.("
+                    + Arrays.stream(ExportFormat.values()).map(ExportFormat::extension).collect(Collectors.joining("|"))
+                    + ")(" + Pattern.quote(PART_SUFFIX) + ")?");
+
+    private final Logger log = LoggerFactory.getLogger(ExportJobService.class);
+
+    private final EmployeeExporter employeeExporter;
+    private final EmployeeService employeeService;
+    private final Path directory;
+    private final Duration retention;
+    private final Duration downloadLease;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobService(EmployeeExporter employeeExporter,
+                            EmployeeService employeeService,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.exports.directory:spool/exports}") String directory,
+                            @Value("${app.exports.workers:2}") int workers,
+                            @Value("${app.exports.queue-capacity:16}") int queueCapacity,
+                            @Value("${app.exports.retention:PT1H}") Duration retention,
+                            @Value("${app.exports.download-lease:PT10M}") Duration downloadLease) {
+        this.employeeExporter = employeeExporter;
+        this.employeeService = employeeService;
+        this.directory = Path.of(directory).toAbsolutePath();
+        this.retention = retention;
+        this.downloadLease = downloadLease;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.gauge("exports.queue.depth", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("exports.active", executor, ThreadPoolExecutor::getActiveCount);
+        meterRegistry.gauge("exports.jobs", jobs, Map::size);
+    }
+
+    /**
+     * Creates the spool directory and removes export files left by a previous run; their jobs are gone with it.
+     * Only {@code <uuid>.<ext>} and {@code <uuid>.<ext>.part} are touched, anything else in the directory stays.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> leftovers = Files.list(directory)) {
+            leftovers.filter(path -> SPOOL_FILE.matcher(path.getFileName().toString()).matches())
+                    .filter(Files::isRegularFile)
+                    .forEach(this::deleteQuietly);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public ExportJob submit(String owner, ExportFormat format, String department, String position, BigDecimal salary) {
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, owner, format, department, position, salary,
+                directory.resolve(id + "." + format.extension()));
+        jobs.put(id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new ExportUnavailableException("Too many exports in progress, please retry later");
+        }
+        return job;
+    }
+
+    /**
+     * Jobs are only visible to the principal that started them; anyone else gets the same 404 as an unknown id.
+     */
+    public ExportJob find(String jobId, String owner) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getOwner().equals(owner)) {
+            throw new ResourceNotFoundException("Export not found with jobId: " + jobId);
+        }
+        return job;
+    }
+
+    public ExportJob findCompleted(String jobId, String owner) {
+        ExportJob job = find(jobId, owner);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new ResourceNotFoundException("Export " + jobId + " has no file yet (status " + job.getStatus() + ")");
+        }
+        return job;
+    }
+
+    /**
+     * A completed job whose file stays on disk for at least {@code app.exports.download-lease} from now, which
+     * covers a download served after the controller returns (sendfile).
+     *
+     * @throws ExportExpiredException if the file has already been swept
+     */
+    public ExportJob leaseDownload(String jobId, String owner) {
+        ExportJob job = findCompleted(jobId, owner);
+        if (!job.lease(Instant.now().plus(downloadLease))) {
+            throw new ExportExpiredException("Export " + jobId + " has expired, please start a new one");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${app.exports.cleanup-interval:PT5M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(retention);
+        jobs.values().removeIf(job -> {
+            Instant finished = job.getCompletedAt();
+            if (finished == null || finished.isAfter(cutoff) || !job.expire(now)) {
+                return false;
+            }
+            deleteQuietly(job.getFile());
+            return true;
+        });
+    }
+
+    private void run(ExportJob job) {
+        Path part = job.getFile().resolveSibling(job.getFile().getFileName() + PART_SUFFIX);
+        try {
+            job.running(employeeService.countEmployees(job.getDepartment(), job.getPosition(), job.getSalary()));
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 64 * 1024)) {
+                employeeExporter.write(job.getFormat(), job.getDepartment(), job.getPosition(), job.getSalary(), out,
+                        job.getRowsWritten()::incrementAndGet);
+            }
+            Files.move(part, job.getFile(), StandardCopyOption.ATOMIC_MOVE);
+            job.completed(Files.size(job.getFile()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Export {} failed", job.getId(), e);
+            deleteQuietly(part);
+            job.failed("Export failed");
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete spool file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Finished export bodies, already serialized and encoded, keyed by format, encoding, filter and
+ * {@link EmployeeDataVersion}. Identical downloads between two writes are answered from memory.
+ * <p>
+ * A miss still streams to the client; the bytes are captured on the way out and only kept when the
+ * body fits {@code max-entry-size}. The cache is bounded by total bytes, evicting the least valuable
+ * entries first. As with {@link EmployeeCountCache}, a body that raced with a write is stored under the
+ * old version and never served again.
+ */
+@Component
+public class ExportSnapshotCache {
+
+    private final EmployeeExporter employeeExporter;
+    private final EmployeeDataVersion dataVersion;
+    private final boolean enabled;
+    private final int maxEntryBytes;
+    private final Cache<SnapshotKey, byte[]> cache;
+
+    @Autowired
+    public ExportSnapshotCache(EmployeeExporter employeeExporter,
+                               EmployeeDataVersion dataVersion,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.employees.export-cache.enabled:true}") boolean enabled,
+                               @Value("${app.employees.export-cache.max-size:64MB}") DataSize maxSize,
+                               @Value("${app.employees.export-cache.max-entry-size:8MB}") DataSize maxEntrySize,
+                               @Value("${app.employees.export-cache.ttl:PT10M}") Duration ttl) {
+        this(employeeExporter, dataVersion, meterRegistry, enabled, maxSize, maxEntrySize, ttl, ForkJoinPool.commonPool());
+    }
+
+    ExportSnapshotCache(EmployeeExporter employeeExporter, EmployeeDataVersion dataVersion, MeterRegistry meterRegistry,
+                        boolean enabled, DataSize maxSize, DataSize maxEntrySize, Duration ttl, Executor executor) {
+        this.employeeExporter = employeeExporter;
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxEntrySize.toBytes());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((SnapshotKey key, byte[] body) -> body.length)
+                .expireAfterWrite(ttl)
+                .executor(executor)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employees.exports");
+    }
+
+    /**
+     * Writes the encoded export to {@code out}, from the cache when an identical body is held for the current data.
+     */
+    public void write(ExportFormat format, ExportEncoding encoding, String department, String position,
+                      BigDecimal salary, OutputStream out) throws IOException {
+        if (!enabled) {
+            try (OutputStream encoded = encoding.wrap(out)) {
+                employeeExporter.write(format, department, position, salary, encoded);
+            }
+            return;
+        }
+        SnapshotKey key = new SnapshotKey(format, encoding, department, position,
+                salary == null ? null : salary.stripTrailingZeros().toPlainString(), dataVersion.current());
+        byte[] cached = cache.getIfPresent(key);
+        if (cached != null) {
+            out.write(cached);
+            return;
+        }
+
+        CapturingOutputStream capture = new CapturingOutputStream(out, maxEntryBytes);
+        try (OutputStream encoded = encoding.wrap(capture)) {
+            employeeExporter.write(format, department, position, salary, encoded);
+        }
+        byte[] body = capture.captured();
+        if (body != null) {
+            cache.put(key, body);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record SnapshotKey(ExportFormat format, ExportEncoding encoding, String department, String position,
+                               String salary, long version) {
+    }
+
+    /**
+     * Passes everything through to the response while keeping a copy, until the copy would exceed {@code limit}.
+     */
+    private static final class CapturingOutputStream extends FilterOutputStream {
+
+        private final int limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream(8192);
+
+        CapturingOutputStream(OutputStream out, int limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            keep(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            keep(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        byte[] captured() {
+            return copy == null ? null : copy.toByteArray();
+        }
+
+        private void keep(byte[] b, int off, int len) {
+            if (copy == null) return;
+            if (copy.size() + len > limit) {
+                copy = null;
+                return;
+            }
+            copy.write(b, off, len);
+        }
+    }
+}
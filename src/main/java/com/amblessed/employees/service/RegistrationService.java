@@ -15,6 +15,7 @@ import com.amblessed.employees.repository.RoleRepository;
 import com.amblessed.employees.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +28,7 @@ public class RegistrationService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void register(UserDTO dto) {
@@ -48,6 +50,7 @@ public class RegistrationService {
         user.setActive(true);
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUserId()));
 
         /*// Assign default role
         Role role = new Role();
@@ -15,6 +15,7 @@ import com.amblessed.employees.exception.ResourceNotFoundException;
 import com.amblessed.employees.repository.RoleRepository;
 import com.amblessed.employees.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,7 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -43,5 +45,6 @@ public class RoleService {
         role.setUser(user);
         role.setUserRole(roleName);
         roleRepository.save(role);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
     }
 }
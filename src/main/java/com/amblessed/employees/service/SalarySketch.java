@@ -0,0 +1,125 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch with a relative-error guarantee (the DDSketch scheme).
+ * <p>
+ * A salary {@code x} is counted in bucket {@code ceil(log_γ x)} with {@code γ = (1 + α) / (1 - α)}, and a
+ * bucket reports {@code 2γ^i / (γ + 1)}; any value in the bucket is within a factor {@code 1 ± α} of that.
+ * So the value returned for quantile {@code q} is within {@code α} relative error of the salary actually at
+ * rank {@code q(n - 1)}. Unlike t-digest, counts can be decremented, so updates and deletes are exact;
+ * sketches with the same {@code α} merge by adding bucket counts. Size grows with the log of the salary
+ * range (about 80 buckets for 40k-200k at α = 1%), not with the number of employees.
+ */
+public final class SalarySketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount; // salaries <= 0, reported as 0
+    private long count;
+
+    public SalarySketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public void add(BigDecimal salary) {
+        adjust(salary, 1);
+    }
+
+    /**
+     * Takes back one earlier {@link #add} of the same salary; ignored if that bucket is already empty.
+     */
+    public void remove(BigDecimal salary) {
+        adjust(salary, -1);
+    }
+
+    public SalarySketch copy() {
+        SalarySketch copy = new SalarySketch(relativeAccuracy);
+        copy.mergeFrom(this);
+        return copy;
+    }
+
+    public void mergeFrom(SalarySketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Only sketches with the same relative accuracy can be merged");
+        }
+        other.buckets.forEach((index, n) -> buckets.merge(index, n, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Approximate salary at quantile {@code q} in [0, 1], rounded to cents; null when empty.
+     */
+    public BigDecimal quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return BigDecimal.ZERO;
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                double value = 2 * Math.pow(gamma, bucket.getKey()) / (gamma + 1);
+                return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+            }
+        }
+        throw new IllegalStateException("Bucket counts do not add up to " + count);
+    }
+
+    private void adjust(BigDecimal salary, long delta) {
+        double value = salary.doubleValue();
+        if (value <= 0) {
+            if (zeroCount + delta < 0) {
+                return;
+            }
+            zeroCount += delta;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / logGamma);
+            long current = buckets.getOrDefault(index, 0L);
+            if (current + delta < 0) {
+                return;
+            }
+            if (current + delta == 0) {
+                buckets.remove(index);
+            } else {
+                buckets.put(index, current + delta);
+            }
+        }
+        count += delta;
+    }
+}
@@ -0,0 +1,17 @@
+package com.amblessed.employees.service;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+/**
+ * Published whenever a system user's credentials, role or active flag change,
+ * so anything holding on to a previously verified login can drop it.
+ */
+public record UserAccountChangedEvent(String userId) {
+}
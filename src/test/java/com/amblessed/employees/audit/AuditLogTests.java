@@ -0,0 +1,65 @@
+package com.amblessed.employees.audit;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTests {
+
+    private static final int MAX_FILE_BYTES = 1_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Rolls by encoded size, so multi-byte text cannot push a file past the limit, and keeps max-files")
+    void rollsByBytes() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditLog auditLog = new AuditLog(meterRegistry, new ObjectMapper().registerModule(new JavaTimeModule()),
+                directory.toString(), 64, 1, "", DataSize.ofBytes(MAX_FILE_BYTES), 3);
+        auditLog.start();
+        String detail = "認証に失敗しました。".repeat(5);
+        for (int i = 0; i < 40; i++) {
+            auditLog.record(AuditEventType.AUTHENTICATION_FAILURE, "EMP-" + i, "10.0.0.1", "/api/employees", detail);
+            // One event per batch, so every file is rolled right after the line that crossed the limit
+            while (meterRegistry.get("audit.events.written").counter().count() < i + 1) {
+                Thread.sleep(1);
+            }
+        }
+        auditLog.stop();
+
+        List<Path> rolled = rolledFiles();
+        assertThat(rolled).hasSize(3);
+        long lineBytes = Files.readAllLines(rolled.getFirst(), StandardCharsets.UTF_8).getFirst()
+                .getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length();
+        for (Path file : rolled) {
+            assertThat(Files.size(file)).isGreaterThanOrEqualTo(MAX_FILE_BYTES).isLessThan(MAX_FILE_BYTES + lineBytes);
+        }
+        assertThat(Files.readString(rolled.getLast()) + Files.readString(directory.resolve("audit.log")))
+                .contains("\"EMP-39\"");
+    }
+
+    private List<Path> rolledFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("audit-\\d+\\.log")).sorted().toList();
+        }
+    }
+}
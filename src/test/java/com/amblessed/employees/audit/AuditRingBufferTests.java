@@ -0,0 +1,93 @@
+package com.amblessed.employees.audit;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTests {
+
+    @Test
+    @DisplayName("Rounds capacity up to a power of two and refuses offers once full")
+    void boundsCapacity() {
+        AuditRingBuffer buffer = new AuditRingBuffer(5);
+        assertThat(buffer.capacity()).isEqualTo(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(buffer.offer(event(i))).isTrue();
+        }
+        assertThat(buffer.offer(event(8))).isFalse();
+        assertThat(buffer.size()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Drains in offer order in bounded batches and reuses slots across wrap-around")
+    void drainsInOrder() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        List<AuditEvent> drained = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertThat(buffer.offer(event(round * 4 + i))).isTrue();
+            }
+            assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+            assertThat(buffer.drainTo(drained, 3)).isEqualTo(1);
+        }
+        assertThat(buffer.drainTo(drained, 3)).isZero();
+        assertThat(drained).extracting(AuditEvent::detail)
+                .containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11");
+    }
+
+    @Test
+    @DisplayName("Loses nothing offered by concurrent producers while a consumer drains")
+    void concurrentProducers() throws Exception {
+        AuditRingBuffer buffer = new AuditRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(event(producer * perProducer + i))) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        Set<String> seen = new HashSet<>();
+        List<AuditEvent> batch = new ArrayList<>();
+        while (seen.size() < producers * perProducer) {
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            batch.forEach(event -> assertThat(seen.add(event.detail())).isTrue());
+        }
+        executor.shutdown();
+        assertThat(buffer.size()).isZero();
+    }
+
+    private static AuditEvent event(int i) {
+        return new AuditEvent(Instant.EPOCH, AuditEventType.AUTHENTICATION_FAILURE, null, null, null, String.valueOf(i));
+    }
+}
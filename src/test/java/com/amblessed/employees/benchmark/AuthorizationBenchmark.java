@@ -0,0 +1,127 @@
+package com.amblessed.employees.benchmark;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.audit.AuditLog;
+import com.amblessed.employees.security.EmployeeAuthorizationManagers;
+import com.amblessed.employees.security.EmployeeSecurity;
+import com.amblessed.employees.security.RoleMasks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authorization cost: the old SpEL + authority-stream checks versus the compiled bitmask managers.
+ * The old {@code isSelf} also ran a {@code findByUser_UserId} query per call; that round-trip is not modelled here.
+ * <p>
+ * Run with {@code mvn -q test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-cp %classpath com.amblessed.employees.benchmark.AuthorizationBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    private Authentication manager;
+    private Authentication employee;
+    private RequestAuthorizationContext selfContext;
+
+    private Expression spelAdminOrManager;
+    private StandardEvaluationContext spelContext;
+    private EmployeeAuthorizationManagers managers;
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        manager = UsernamePasswordAuthenticationToken.authenticated("EMP-00000001", null,
+                List.of(new SimpleGrantedAuthority(RoleMasks.ROLE_MANAGER)));
+        employee = UsernamePasswordAuthenticationToken.authenticated("EMP-00000002", null,
+                List.of(new SimpleGrantedAuthority(RoleMasks.ROLE_EMPLOYEE)));
+        selfContext = new RequestAuthorizationContext(new MockHttpServletRequest(), Map.of("employeeId", "EMP-00000002"));
+
+        RoleHierarchyImpl hierarchy = RoleHierarchyImpl.fromHierarchy("ROLE_ADMIN > ROLE_MANAGER\nROLE_MANAGER > ROLE_EMPLOYEE");
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        auditLog = new AuditLog(new SimpleMeterRegistry(), objectMapper, "target/benchmark-audit",
+                8192, 256, "", DataSize.ofMegabytes(10), 2);
+        auditLog.start();
+        managers = new EmployeeAuthorizationManagers(new EmployeeSecurity(new RoleMasks(hierarchy), auditLog));
+
+        spelAdminOrManager = new SpelExpressionParser().parseExpression("#legacy.isAdminOrManager(#authentication)");
+        spelContext = new StandardEvaluationContext();
+        spelContext.setVariable("legacy", new LegacyChecks());
+    }
+
+    @Benchmark
+    public Object legacySpelAdminOrManager() {
+        spelContext.setVariable("authentication", manager);
+        return spelAdminOrManager.getValue(spelContext, Boolean.class);
+    }
+
+    @Benchmark
+    public Object compiledAdminOrManager() {
+        return managers.adminOrManager().check(() -> manager, selfContext);
+    }
+
+    @Benchmark
+    public Object compiledAdminOrManagerOrSelf() {
+        return managers.adminOrManagerOrSelf().check(() -> employee, selfContext);
+    }
+
+    /**
+     * The authority-stream checks {@code EmployeeSecurity} used before role masks, minus the stdout writes.
+     */
+    public static class LegacyChecks {
+
+        public boolean isAdminOrManager(Authentication authentication) {
+            return hasRole(authentication, RoleMasks.ROLE_MANAGER) || hasRole(authentication, RoleMasks.ROLE_ADMIN);
+        }
+
+        private boolean hasRole(Authentication authentication, String role) {
+            if (authentication == null || !authentication.isAuthenticated()) {
+                return false;
+            }
+            return authentication.getAuthorities().stream()
+                    .anyMatch(auth -> role.equals(auth.getAuthority()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        auditLog.stop();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AuthorizationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+package com.amblessed.employees.benchmark;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.EmployeesApplication;
+import com.amblessed.employees.config.DepartmentService;
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeSearchCriteria;
+import com.amblessed.employees.entity.EmployeeSpecification;
+import com.amblessed.employees.repository.EmployeeRepository;
+import com.amblessed.employees.search.ColumnarEmployees;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grouped headcount/salary scans: the columnar replica versus {@link EmployeeRepository#aggregate}, the query the
+ * analytics endpoint falls back to, both read from the same rows in the application context. The database is
+ * in-memory H2 (result reuse off), so there is no network round trip and the SQL side is a lower bound of what
+ * the endpoint pays without the replica.
+ * <p>
+ * Run with {@code mvn -q test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-cp %classpath com.amblessed.employees.benchmark.ColumnarScanBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarScanBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ColumnarEmployees columnar;
+    private EmployeeRepository employeeRepository;
+    private EmployeeSearchCriteria filtered;
+    private EmployeeSearchCriteria all;
+
+    @Setup
+    public void setUp() {
+        // Arguments, because default properties would lose to application.properties
+        context = new SpringApplicationBuilder(EmployeesApplication.class)
+                .run(
+                        // The security configuration needs the servlet stack, so it starts, just on a free port
+                        "--server.port=0",
+                        // Result reuse would answer repeated identical queries from a cache without scanning
+                        "--spring.datasource.url=jdbc:h2:mem:columnar-" + rows + ";OPTIMIZE_REUSE_RESULTS=FALSE;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--app.audit.directory=target/benchmark-audit",
+                        "--logging.level.root=WARN");
+        columnar = context.getBean(ColumnarEmployees.class);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+
+        List<String> departments = DepartmentService.STRENGTHS_BY_DEPARTMENT.keySet().stream().sorted().toList();
+        insert(context.getBean(JdbcTemplate.class), departments);
+        columnar.rebuild();
+
+        filtered = new EmployeeSearchCriteria(departments.subList(0, 2), null, new BigDecimal("60000"),
+                null, null, null, null);
+        all = new EmployeeSearchCriteria(null, null, null, null, null, null, null);
+    }
+
+    private void insert(JdbcTemplate jdbc, List<String> departments) {
+        Random random = new Random(42);
+        List<Object[]> users = new ArrayList<>(rows);
+        List<Object[]> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String userId = "EMP-" + i;
+            String email = "employee" + i + "@example.com";
+            users.add(new Object[]{userId, "{noop}password", true, email});
+            employees.add(new Object[]{userId, "First" + i, "Last" + i, email, "+1555" + i,
+                    departments.get(random.nextInt(departments.size())), "Position " + random.nextInt(12),
+                    BigDecimal.valueOf(40_000_00L + random.nextInt(160_000_00), 2),
+                    Date.valueOf(LocalDate.of(2005, 1, 1).plusDays(random.nextInt(7300))), random.nextInt(10) > 0});
+        }
+        jdbc.batchUpdate("insert into system_users (user_id, password, active, email) values (?, ?, ?, ?)", users);
+        jdbc.batchUpdate("insert into employees (user_id, first_name, last_name, email, phone_number, department, "
+                + "position, salary, hire_date, active) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", employees);
+    }
+
+    @Benchmark
+    public List<EmployeeAggregate> columnarByHireYearFiltered() {
+        return columnar.aggregate(filtered, EmployeeAggregate.GroupBy.HIRE_YEAR);
+    }
+
+    @Benchmark
+    public List<EmployeeAggregate> sqlByHireYearFiltered() {
+        return employeeRepository.aggregate(EmployeeSpecification.matching(filtered), EmployeeAggregate.GroupBy.HIRE_YEAR);
+    }
+
+    @Benchmark
+    public List<EmployeeAggregate> columnarByDepartment() {
+        return columnar.aggregate(all, EmployeeAggregate.GroupBy.DEPARTMENT);
+    }
+
+    @Benchmark
+    public List<EmployeeAggregate> sqlByDepartment() {
+        return employeeRepository.aggregate(EmployeeSpecification.matching(all), EmployeeAggregate.GroupBy.DEPARTMENT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ColumnarScanBenchmark.class.getSimpleName()).build()).run();
+    }
+}
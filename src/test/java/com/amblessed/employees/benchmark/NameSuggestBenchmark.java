@@ -0,0 +1,99 @@
+package com.amblessed.employees.benchmark;
+
+
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+
+import com.amblessed.employees.repository.EmployeeBuilder;
+import com.amblessed.employees.search.NameIndex;
+import com.amblessed.employees.service.EmployeeChangedEvent;
+import com.amblessed.employees.service.EmployeeEvents;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead latency distribution of {@link NameIndex#suggest}, the budget being a p99 under one millisecond.
+ * Prefixes of one to four characters are drawn from the indexed names, so short, crowded prefixes dominate;
+ * the write path is measured as a rename of one employee.
+ * <p>
+ * Run with {@code mvn -q test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-cp %classpath com.amblessed.employees.benchmark.NameSuggestBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSuggestBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "be", "ca", "de", "el", "fi", "go", "ha", "jo", "ka", "li", "ma",
+            "no", "ol", "pe", "ra", "sa", "ta", "ur", "vi", "wa", "ye", "zo"};
+
+    @Param({"100000"})
+    public int employees;
+
+    private NameIndex index;
+    private String[] prefixes;
+    private EmployeeChangedEvent[] renames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<EmployeeBuilder> rows = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            rows.add(EmployeeEvents.employee("EMP-" + i).withFirstName(name(random)).withLastName(name(random)));
+        }
+        index = new NameIndex(EmployeeEvents.serving(rows), 20);
+        index.rebuild();
+
+        prefixes = new String[4096];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = rows.get(random.nextInt(employees)).build().getLastName().toLowerCase();
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(4, name.length())));
+        }
+        renames = new EmployeeChangedEvent[2];
+        EmployeeBuilder original = rows.get(employees / 2);
+        String firstName = original.build().getFirstName();
+        EmployeeBuilder renamed = EmployeeEvents.employee("EMP-" + employees / 2).withFirstName(firstName)
+                .withLastName("Renamed");
+        renames[0] = EmployeeEvents.updated(original, renamed);
+        renames[1] = EmployeeEvents.updated(renamed, original);
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0, syllables = 2 + random.nextInt(3); i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    @Benchmark
+    public List<NameIndex.Suggestion> suggest() {
+        return index.suggest(prefixes[next++ & (prefixes.length - 1)], 10);
+    }
+
+    @Benchmark
+    public void rename() {
+        index.onEmployeeChanged(renames[next++ & 1]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NameSuggestBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,176 @@
+package com.amblessed.employees.controller;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.CursorPage;
+import com.amblessed.employees.entity.EmployeeStamp;
+import com.amblessed.employees.exception.ExportExpiredException;
+import com.amblessed.employees.exception.GlobalExceptionHandler;
+import com.amblessed.employees.search.ColumnarEmployees;
+import com.amblessed.employees.service.EmployeeChangedEvent;
+import com.amblessed.employees.service.EmployeeDataVersion;
+import com.amblessed.employees.service.EmployeeService;
+import com.amblessed.employees.service.EmployeeStatistics;
+import com.amblessed.employees.service.ExportFormat;
+import com.amblessed.employees.service.ExportJob;
+import com.amblessed.employees.service.ExportJobService;
+import com.amblessed.employees.service.ExportSnapshotCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class EmployeeRestControllerTests {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final String FILE_URL = "/api/employees/exports/job-1/file";
+    private static final String ETAG = "\"job-1\"";
+
+    @TempDir
+    Path directory;
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final ExportJobService exportJobService = mock(ExportJobService.class);
+    private final EmployeeDataVersion dataVersion = new EmployeeDataVersion();
+    private MockMvc mockMvc;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeRestController(employeeService,
+                        mock(ExportSnapshotCache.class), exportJobService, mock(EmployeeStatistics.class),
+                        mock(ColumnarEmployees.class), dataVersion))
+                .setControllerAdvice(new GlobalExceptionHandler(new ObjectMapper()))
+                .build();
+
+        file = Files.writeString(directory.resolve("job-1.csv"), CONTENT, StandardCharsets.UTF_8);
+        ExportJob job = mock(ExportJob.class);
+        when(job.getId()).thenReturn("job-1");
+        when(job.getFile()).thenReturn(file);
+        when(job.getFormat()).thenReturn(ExportFormat.CSV);
+        when(exportJobService.leaseDownload("job-1", "EMP-1")).thenReturn(job);
+    }
+
+    @Test
+    @DisplayName("Serves the whole file with its validator and range support")
+    void servesWholeFile() throws Exception {
+        mockMvc.perform(download())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("Answers a single byte range, including suffix and open-ended ones, with 206")
+    void servesRanges() throws Exception {
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/20"))
+                .andExpect(content().string("2345"));
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 17-19/20"))
+                .andExpect(content().string("hij"));
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=15-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("fghij"));
+    }
+
+    @Test
+    @DisplayName("Honours If-Range only while it matches the current validator")
+    void ifRange() throws Exception {
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-1").header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("01"));
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-1").header(HttpHeaders.IF_RANGE, "\"job-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("Rejects a range outside the file with 416 and the file length")
+    void unsatisfiableRange() throws Exception {
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+        mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=5-2"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    @DisplayName("Answers 410 when the export expired or its file is gone")
+    void expired() throws Exception {
+        Files.delete(file);
+        mockMvc.perform(download()).andExpect(status().isGone());
+
+        when(exportJobService.leaseDownload("job-1", "EMP-1")).thenThrow(new ExportExpiredException("expired"));
+        mockMvc.perform(download()).andExpect(status().isGone());
+    }
+
+    @Test
+    @DisplayName("Answers a repeated list request with 304 until the table changes")
+    void listNotModified() throws Exception {
+        when(employeeService.stamp(null, null, null)).thenReturn(new EmployeeStamp(1, LocalDateTime.parse("2026-10-18T12:00:00")));
+        when(employeeService.findAll(0, 10, "firstName", "asc")).thenReturn(new PageImpl<>(List.of()));
+
+        String etag = mockMvc.perform(get("/api/employees").param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/employees").param("size", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(employeeService, times(1)).findAll(0, 10, "firstName", "asc");
+
+        when(employeeService.stamp(null, null, null)).thenReturn(new EmployeeStamp(2, LocalDateTime.parse("2026-10-18T12:05:00")));
+        mockMvc.perform(get("/api/employees").param("size", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("Validates keyset pages against the data version, without counting the table")
+    void cursorNotModified() throws Exception {
+        when(employeeService.findAllAfter(null, 10, "firstName", "asc")).thenReturn(new CursorPage<>(List.of(), 10, false, null));
+
+        String etag = mockMvc.perform(get("/api/employees").param("size", "10").param("paging", "cursor"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/employees").param("size", "10").param("paging", "cursor").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        dataVersion.onEmployeeChanged(EmployeeChangedEvent.reloaded());
+        mockMvc.perform(get("/api/employees").param("size", "10").param("paging", "cursor").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+        verify(employeeService, never()).stamp(any(), any(), any());
+    }
+
+    private static MockHttpServletRequestBuilder download() {
+        return get(FILE_URL).principal(UsernamePasswordAuthenticationToken.authenticated("EMP-1", null, List.of()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.amblessed.employees.entity;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.exception.InvalidParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeCursorTests {
+
+    @Test
+    @DisplayName("Round-trips sort values holding separators, dots, non-ASCII text and empty strings")
+    void roundTrips() {
+        EmployeeCursor cursor = new EmployeeCursor("lastName", "desc",
+                List.of("O\u001FBrien.Jr", "", "Ñúñez 名前"), "EMP-00042");
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_.-]*");
+        assertThat(EmployeeCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Rejects cursors with too few components or invalid Base64url")
+    void rejectsMalformed() {
+        assertThatThrownBy(() -> EmployeeCursor.decode("bGFzdE5hbWU.ZGVzYw")).isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> EmployeeCursor.decode("a.b.c.d*")).isInstanceOf(InvalidParameterException.class);
+    }
+}
@@ -0,0 +1,212 @@
+package com.amblessed.employees.repository;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.Employee;
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeFacets;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.entity.EmployeeSearchCriteria;
+import com.amblessed.employees.exception.ResourceNotFoundException;
+import com.amblessed.employees.mapper.EmployeeMapper;
+import com.amblessed.employees.search.ColumnarEmployees;
+import com.amblessed.employees.service.EmployeeCatalog;
+import com.amblessed.employees.service.EmployeeChangedEvent;
+import com.amblessed.employees.service.EmployeeCountCache;
+import com.amblessed.employees.service.EmployeeDataVersion;
+import com.amblessed.employees.service.EmployeeFacetCache;
+import com.amblessed.employees.service.EmployeeResponseCache;
+import com.amblessed.employees.service.EmployeeService;
+import com.amblessed.employees.service.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Every read endpoint's service call must be served by exactly one SQL statement:
+ * no COUNT, no per-row User/Role selects.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({EmployeeServiceImpl.class, EmployeeMapper.class, EmployeeCountCache.class, EmployeeDataVersion.class,
+        EmployeeResponseCache.class, EmployeeCatalog.class, EmployeeFacetCache.class, SimpleMeterRegistry.class})
+class EmployeeQueryCountTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeResponseCache responseCache;
+
+    @Autowired
+    private EmployeeCatalog catalog;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+    private Employee first;
+
+    @BeforeEach
+    void setUp() {
+        List<Employee> employees = employeeRepository.saveAll(EmployeeFactory.createEmployees(30));
+        first = employees.getFirst();
+        entityManager.flush();
+        entityManager.clear();
+        // Each test rolls back its rows, but the cache bean lives as long as the context
+        responseCache.onEmployeeChanged(EmployeeChangedEvent.reloaded());
+        catalog.onEmployeeChanged(EmployeeChangedEvent.reloaded());
+        catalog.resolveDepartments(List.of());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Paged list runs one statement once the total is cached")
+    void findAllRunsOneStatement() {
+        employeeService.findAll(0, 10, "firstName", "asc");
+        statistics.clear();
+
+        Page<EmployeeResponse> page = employeeService.findAll(1, 10, "firstName", "asc");
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Slice and cursor pages run one statement")
+    void sliceAndCursorRunOneStatement() {
+        assertThat(employeeService.findSlice(0, 10, "lastName", "desc").hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(employeeService.findAllAfter(null, 10, "department", "asc").nextCursor()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Search runs one statement when something matches")
+    void filterRunsOneStatement() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(
+                List.of(first.getDepartment().toUpperCase(), "Unused"), List.of(), BigDecimal.ZERO, null,
+                null, first.getHireDate(), true);
+
+        assertThatThrownBy(() -> employeeService.searchEmployees(criteria, 0, 10, "salary", "desc"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        List<EmployeeResponse> results = employeeService.searchEmployees(
+                criteria.withValues(List.of(first.getDepartment().toUpperCase()), List.of()), 0, 10, "salary", "desc").getContent();
+
+        assertThat(results).isNotEmpty().allMatch(e -> e.getDepartment().equals(first.getDepartment()))
+                .allMatch(e -> !e.getHireDate().isAfter(first.getHireDate()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Facets take one grouped statement and are then cached")
+    void facetsRunOneStatement() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(null, null, null, null, null, null, null);
+
+        EmployeeFacets facets = employeeService.facets(criteria);
+
+        assertThat(facets.departments().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(30);
+        assertThat(facets.salaryBands()).hasSize(5).containsKeys("<50000", "150000+");
+        assertThat(facets.salaryBands().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(employeeService.facets(criteria)).isEqualTo(facets);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Grouped aggregates run one statement and agree with the columnar replica")
+    void aggregatesMatchColumnarReplica() {
+        ColumnarEmployees columnar = new ColumnarEmployees(employeeService, true);
+        columnar.rebuild();
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(null, null, new BigDecimal("40000"), null, null,
+                null, null);
+
+        for (EmployeeAggregate.GroupBy groupBy : List.of(EmployeeAggregate.GroupBy.NONE,
+                EmployeeAggregate.GroupBy.DEPARTMENT, EmployeeAggregate.GroupBy.HIRE_YEAR)) {
+            statistics.clear();
+            List<EmployeeAggregate> database = employeeService.aggregate(criteria, groupBy);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(database).usingElementComparator(Comparator.comparing(EmployeeAggregate::key,
+                            Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                            .thenComparingLong(EmployeeAggregate::headcount)
+                            .thenComparingLong(EmployeeAggregate::activeHeadcount)
+                            .thenComparing(EmployeeAggregate::totalSalary))
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(columnar.aggregate(criteria, groupBy));
+        }
+    }
+
+    @Test
+    @DisplayName("Export runs one statement")
+    void exportRunsOneStatement() {
+        List<EmployeeResponse> results = new ArrayList<>();
+        employeeService.exportEmployees(null, null, null, results::add);
+
+        assertThat(results).hasSize(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Lookup by employee id runs one statement and maps the user id")
+    void findByEmployeeIdRunsOneStatement() {
+        EmployeeResponse response = employeeService.findByEmployeeId(first.getUser().getUserId());
+
+        assertThat(response.getEmployeeId()).isEqualTo(first.getUser().getUserId());
+        assertThat(response.getEmail()).isEqualTo(first.getEmail());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Repeated lookup by employee id is served from the response cache")
+    void repeatedLookupRunsNoStatement() {
+        String employeeId = first.getUser().getUserId();
+        employeeService.findByEmployeeId(employeeId).setEmail("changed-by-caller@example.com");
+        statistics.clear();
+
+        EmployeeResponse response = employeeService.findByEmployeeId(employeeId);
+
+        // Each caller gets its own copy, so the change above did not reach the cached entry
+        assertThat(response.getEmail()).isEqualTo(first.getEmail());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
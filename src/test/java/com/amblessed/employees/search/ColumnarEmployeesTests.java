@@ -0,0 +1,84 @@
+package com.amblessed.employees.search;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.EmployeeAggregate;
+import com.amblessed.employees.entity.EmployeeAggregate.GroupBy;
+import com.amblessed.employees.entity.EmployeeSearchCriteria;
+import com.amblessed.employees.repository.EmployeeBuilder;
+import com.amblessed.employees.service.EmployeeEvents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.amblessed.employees.service.EmployeeEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ColumnarEmployeesTests {
+
+    private static final EmployeeSearchCriteria ALL = new EmployeeSearchCriteria(null, null, null, null, null, null, null);
+
+    private ColumnarEmployees columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new ColumnarEmployees(serving(
+                employee("EMP-1", "Engineering", "Developer", "90000.00", "2021-03-01", true, "Java, AWS"),
+                employee("EMP-2", "Engineering", "Architect", "120000.50", "2021-11-30", false, "Java"),
+                employee("EMP-3", "Sales", "Account Manager", "60000.00", "2023-01-15", true, null)), true);
+        columns.rebuild();
+    }
+
+    @Test
+    @DisplayName("Groups headcount, active headcount and salary by each column")
+    void groupsByColumn() {
+        assertThat(columns.aggregate(ALL, GroupBy.DEPARTMENT)).containsExactly(
+                new EmployeeAggregate("Engineering", 2, 1, new BigDecimal("210000.50")),
+                new EmployeeAggregate("Sales", 1, 1, new BigDecimal("60000.00")));
+        assertThat(columns.aggregate(ALL, GroupBy.HIRE_YEAR)).extracting(EmployeeAggregate::key, EmployeeAggregate::headcount)
+                .containsExactly(tuple("2021", 2L), tuple("2023", 1L));
+        assertThat(columns.aggregate(ALL, GroupBy.SKILL)).extracting(EmployeeAggregate::key, EmployeeAggregate::headcount)
+                .containsExactly(tuple("AWS", 1L), tuple("Java", 2L));
+        assertThat(columns.aggregate(ALL, GroupBy.NONE)).singleElement()
+                .satisfies(total -> assertThat(total.averageSalary()).isEqualByComparingTo("90000.17"));
+    }
+
+    @Test
+    @DisplayName("Applies every search filter with inclusive bounds")
+    void filters() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(List.of("Engineering", "Sales"), null,
+                new BigDecimal("60000"), new BigDecimal("120000.50"), LocalDate.parse("2021-03-01"), null, true);
+        assertThat(columns.aggregate(criteria, GroupBy.POSITION)).extracting(EmployeeAggregate::key)
+                .containsExactly("Account Manager", "Developer");
+        assertThat(columns.aggregate(ALL.withValues(List.of("Marketing"), List.of()), GroupBy.NONE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Follows updates and deletes, reusing freed rows")
+    void followsWrites() {
+        columns.onEmployeeChanged(deleted(EmployeeEvents.employee("EMP-1")));
+        columns.onEmployeeChanged(updated(employee("EMP-3", "Sales", "Account Manager", "60000.00", "2023-01-15", true, null),
+                employee("EMP-3", "Engineering", "Developer", "65000.00", "2023-01-15", false, null)));
+        columns.onEmployeeChanged(created(employee("EMP-4", "Sales", "Account Manager", "50000.00", "2024-06-01", true, null)));
+
+        assertThat(columns.aggregate(ALL, GroupBy.DEPARTMENT)).containsExactly(
+                new EmployeeAggregate("Engineering", 2, 0, new BigDecimal("185000.50")),
+                new EmployeeAggregate("Sales", 1, 1, new BigDecimal("50000.00")));
+    }
+
+    private static EmployeeBuilder employee(String employeeId, String department, String position, String salary,
+                                            String hireDate, boolean active, String skills) {
+        return EmployeeEvents.employee(employeeId).withDepartment(department).withPosition(position)
+                .withSalary(new BigDecimal(salary)).withHireDate(LocalDate.parse(hireDate)).withActive(active)
+                .withSkills(skills);
+    }
+}
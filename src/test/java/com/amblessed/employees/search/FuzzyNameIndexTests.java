@@ -0,0 +1,80 @@
+package com.amblessed.employees.search;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.repository.EmployeeBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.amblessed.employees.service.EmployeeEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyNameIndexTests {
+
+    private FuzzyNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FuzzyNameIndex(serving(
+                person("EMP-1", "John", "Smith"),
+                person("EMP-2", "Joan", "Smyth"),
+                person("EMP-3", "Mary", "Jones")), 2, 1000);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Tolerates transpositions and substitutions and ranks by total distance")
+    void ranksByDistance() {
+        assertThat(index.search("Jonh Smiht", 0, 10).hits()).containsExactly(new FuzzyNameIndex.Hit("EMP-1", 2));
+        assertThat(index.search("Jon Smith", 0, 10).hits())
+                .containsExactly(new FuzzyNameIndex.Hit("EMP-1", 1), new FuzzyNameIndex.Hit("EMP-2", 2));
+        assertThat(index.search("jhon.smith@exmaple.com", 0, 10).hits())
+                .extracting(FuzzyNameIndex.Hit::employeeId).containsExactly("EMP-1");
+        assertThat(index.search("Williams", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Indexes the email's local part only, not the domain everyone shares")
+    void skipsEmailDomain() {
+        assertThat(index.search("exmaple.com", 0, 10).totalHits()).isZero();
+        assertThat(FuzzyNameIndex.words("mary.jones@sales.example.com")).containsExactly("mary", "jones");
+    }
+
+    @Test
+    @DisplayName("Finds short misspellings that share no trigram, also for names added after the build")
+    void findsShortTypos() {
+        index.onEmployeeChanged(created(person("EMP-4", "Bob", "Lee")));
+
+        assertThat(index.search("Bib Lee", 0, 10).hits()).containsExactly(new FuzzyNameIndex.Hit("EMP-4", 1));
+        assertThat(index.search("Mray", 0, 10).hits()).containsExactly(new FuzzyNameIndex.Hit("EMP-3", 1));
+    }
+
+    @Test
+    @DisplayName("Keeps finding terms once those added after the build are merged into the sorted neighbourhood")
+    void mergesLateTerms() {
+        for (int i = 0; i < 500; i++) {
+            index.onEmployeeChanged(created(person("EMP-" + (100 + i), "Given" + (char) ('a' + i % 26) + (char) ('a' + i / 26), "Late")));
+        }
+
+        assertThat(index.search("Gievnbb Late", 0, 10).hits()).first().isEqualTo(new FuzzyNameIndex.Hit("EMP-127", 1));
+        assertThat(index.search("Jonh", 0, 10).hits()).extracting(FuzzyNameIndex.Hit::employeeId).containsExactly("EMP-1");
+    }
+
+    @Test
+    @DisplayName("Bounded distance stops early and counts a swap as one edit")
+    void boundsDistance() {
+        assertThat(FuzzyNameIndex.distance("jonh", "john", 1)).isEqualTo(1);
+        assertThat(FuzzyNameIndex.distance("smith", "smyth", 1)).isEqualTo(1);
+        assertThat(FuzzyNameIndex.distance("alexander", "bob", 2)).isEqualTo(3);
+    }
+
+    private static EmployeeBuilder person(String employeeId, String firstName, String lastName) {
+        return employee(employeeId).withFirstName(firstName).withLastName(lastName)
+                .withEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + "@example.com");
+    }
+}
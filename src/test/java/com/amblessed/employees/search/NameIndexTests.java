@@ -0,0 +1,63 @@
+package com.amblessed.employees.search;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.repository.EmployeeBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.amblessed.employees.service.EmployeeEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameIndexTests {
+
+    private NameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameIndex(serving(
+                named("EMP-1", "José", "Smith"),
+                named("EMP-2", "Joan", "Smithers"),
+                named("EMP-3", "Sam", "Jones")), 20);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Matches either name case- and accent-insensitively, alphabetically and once per employee")
+    void suggestsByPrefix() {
+        assertThat(ids("JO")).containsExactly("EMP-2", "EMP-3", "EMP-1");
+        assertThat(ids("smith j")).containsExactly("EMP-1");
+        assertThat(ids("s")).containsExactly("EMP-3", "EMP-1", "EMP-2");
+        assertThat(index.suggest("jos", 10)).containsExactly(new NameIndex.Suggestion("EMP-1", "José Smith"));
+        assertThat(index.suggest("j", 1)).hasSize(1);
+        assertThat(ids("smithersx")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Writes after the load keep keys in order; renames and deletes drop the old keys")
+    void followsWrites() {
+        index.onEmployeeChanged(updated(named("EMP-3", "Sam", "Jones"), named("EMP-3", "Sam", "Brown")));
+        assertThat(ids("jones")).isEmpty();
+        assertThat(ids("brown")).containsExactly("EMP-3");
+
+        index.onEmployeeChanged(deleted(named("EMP-1", "José", "Smith")));
+        index.onEmployeeChanged(created(named("EMP-4", "Joe", "Smithson")));
+        assertThat(ids("smith")).containsExactly("EMP-2", "EMP-4");
+        assertThat(ids("jo")).containsExactly("EMP-2", "EMP-4");
+    }
+
+    private List<String> ids(String prefix) {
+        return index.suggest(prefix, 10).stream().map(NameIndex.Suggestion::employeeId).toList();
+    }
+
+    private static EmployeeBuilder named(String employeeId, String firstName, String lastName) {
+        return employee(employeeId).withFirstName(firstName).withLastName(lastName);
+    }
+}
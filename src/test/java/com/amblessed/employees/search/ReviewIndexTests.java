@@ -0,0 +1,79 @@
+package com.amblessed.employees.search;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.repository.EmployeeBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.amblessed.employees.service.EmployeeEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewIndexTests {
+
+    @Test
+    @DisplayName("Ranks documents mentioning rarer query terms more often first")
+    void ranksByBm25() {
+        ReviewIndex index = index(List.of(
+                review("EMP-1", "Great communication. Communication is a strength."),
+                review("EMP-2", "Good teamwork and some communication."),
+                review("EMP-3", "Strong teamwork.")));
+
+        ReviewIndex.Hits hits = index.search("communication", 0, 10);
+
+        assertThat(hits.totalHits()).isEqualTo(2);
+        assertThat(hits.hits()).extracting(ReviewIndex.Hit::employeeId).containsExactly("EMP-1", "EMP-2");
+    }
+
+    @Test
+    @DisplayName("Updates replace the old review and deletes drop it")
+    void followsWrites() {
+        EmployeeBuilder before = review("EMP-1", "needs better documentation");
+        EmployeeBuilder after = review("EMP-1", "excellent mentoring");
+        ReviewIndex index = index(List.of(before));
+        index.onEmployeeChanged(updated(before, after));
+
+        assertThat(index.search("documentation", 0, 10).totalHits()).isZero();
+        assertThat(index.search("mentoring", 0, 10).hits()).extracting(ReviewIndex.Hit::employeeId).containsExactly("EMP-1");
+
+        index.onEmployeeChanged(deleted(after));
+        assertThat(index.search("mentoring", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pages are cut from the top-k and survive compaction")
+    void pagesThroughTopK() {
+        List<EmployeeBuilder> reviews = IntStream.range(0, 3000)
+                .mapToObj(i -> review("EMP-" + i, i % 2 == 0 ? "reliable" : "reliable reliable"))
+                .toList();
+        ReviewIndex index = index(reviews);
+        reviews.subList(0, 2000).forEach(employee -> index.onEmployeeChanged(deleted(employee)));
+
+        ReviewIndex.Hits first = index.search("reliable", 0, 10);
+        ReviewIndex.Hits second = index.search("reliable", 1, 10);
+
+        assertThat(first.totalHits()).isEqualTo(1000);
+        assertThat(first.hits()).hasSize(10).allMatch(hit -> Integer.parseInt(hit.employeeId().substring(4)) % 2 == 1);
+        assertThat(second.hits()).hasSize(10).doesNotContainAnyElementsOf(first.hits());
+        assertThatThrownBy(() -> index.search("reliable", 100, 10)).isInstanceOf(InvalidParameterException.class);
+    }
+
+    private static ReviewIndex index(List<EmployeeBuilder> employees) {
+        ReviewIndex index = new ReviewIndex(serving(employees), 1.2, 0.75, 1000);
+        index.rebuild();
+        return index;
+    }
+
+    private static EmployeeBuilder review(String employeeId, String text) {
+        return employee(employeeId).withPerformanceReview(text);
+    }
+}
@@ -0,0 +1,60 @@
+package com.amblessed.employees.search;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.repository.EmployeeBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.amblessed.employees.service.EmployeeEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillIndexTests {
+
+    private SkillIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex(serving(
+                skills("EMP-1", "Java, Kubernetes, Docker"),
+                skills("EMP-2", "Java, Spring Boot"),
+                skills("EMP-3", "Kubernetes, AWS")));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Combines all, any and none case-insensitively")
+    void evaluatesBooleanQuery() {
+        assertThat(ids(List.of("java", "KUBERNETES"), List.of(), List.of())).containsExactly("EMP-1");
+        assertThat(ids(List.of(), List.of("Spring Boot", "AWS"), List.of())).containsExactlyInAnyOrder("EMP-2", "EMP-3");
+        assertThat(ids(List.of(), List.of(), List.of("Java"))).containsExactly("EMP-3");
+        assertThat(ids(List.of("Java", "Unknown"), List.of(), List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Updates move bits and deleted numbers are reused")
+    void followsWrites() {
+        index.onEmployeeChanged(updated(skills("EMP-2", "Java, Spring Boot"), skills("EMP-2", "AWS")));
+        assertThat(ids(List.of("Java"), List.of(), List.of())).containsExactly("EMP-1");
+
+        index.onEmployeeChanged(deleted(employee("EMP-1")));
+        index.onEmployeeChanged(created(skills("EMP-4", "Java")));
+        assertThat(ids(List.of("Java"), List.of(), List.of())).containsExactly("EMP-4");
+        assertThat(ids(List.of(), List.of(), List.of("Rust"))).containsExactlyInAnyOrder("EMP-2", "EMP-3", "EMP-4");
+    }
+
+    private List<String> ids(List<String> all, List<String> any, List<String> none) {
+        return index.search(all, any, none, 0, 10).employeeIds();
+    }
+
+    private static EmployeeBuilder skills(String employeeId, String skills) {
+        return employee(employeeId).withSkills(skills);
+    }
+}
@@ -0,0 +1,132 @@
+package com.amblessed.employees.security;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.audit.AuditLog;
+import com.amblessed.employees.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AccessTokenServiceTests {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final String KEYS = "k1:" + Base64.getEncoder().encodeToString(SECRET);
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private final AccessTokenService service = at(NOW);
+
+    @Test
+    @DisplayName("Verifies its own token with the principal and roles it was issued for")
+    void roundTrips() {
+        Authentication verified = service.verify(service.issue(login())).orElseThrow();
+        assertThat(verified.getName()).isEqualTo("EMP-1");
+        assertThat(verified.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_EMPLOYEE", "ROLE_MANAGER");
+    }
+
+    @Test
+    @DisplayName("Rejects a token whose payload or signature was altered")
+    void rejectsTampering() {
+        String token = service.issue(login());
+        String[] parts = token.split("\\.");
+        String elevated = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("EMP-1\nROLE_ADMIN\n" + NOW.plusSeconds(600).getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        byte[] signature = Base64.getUrlDecoder().decode(parts[2]);
+        signature[signature.length - 1] ^= 1;
+
+        assertThat(service.verify(parts[0] + "." + elevated + "." + parts[2])).isEmpty();
+        assertThat(service.verify(parts[0] + "." + parts[1] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(signature))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Accepts a token until its expiry second and rejects it from then on")
+    void expires() {
+        String token = service.issue(login());
+        assertThat(at(NOW.plus(Duration.ofMinutes(15)).minusSeconds(1)).verify(token)).isPresent();
+        assertThat(at(NOW.plus(Duration.ofMinutes(15))).verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Rejects unknown key ids, other MAC algorithms and malformed tokens")
+    void rejectsMalformed() throws Exception {
+        String token = service.issue(login());
+        String header = token.substring(0, token.lastIndexOf('.'));
+        Mac sha512 = Mac.getInstance("HmacSHA512");
+        sha512.init(new SecretKeySpec(SECRET, "HmacSHA512"));
+        String otherAlgorithm = header + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sha512.doFinal(header.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(service.verify("none" + token.substring(token.indexOf('.')))).isEmpty();
+        assertThat(service.verify(otherAlgorithm)).isEmpty();
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("k1.no-signature")).isEmpty();
+        assertThat(service.verify(header + ".not*base64")).isEmpty();
+        assertThat(service.verify("k1." + Base64.getUrlEncoder().encodeToString("EMP-1".getBytes(StandardCharsets.UTF_8)) + ".AAAA"))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Compares signatures with the constant-time MessageDigest.isEqual")
+    void comparesInConstantTime() {
+        String token = service.issue(login());
+        try (MockedStatic<MessageDigest> digest = mockStatic(MessageDigest.class, CALLS_REAL_METHODS)) {
+            assertThat(service.verify(token.substring(0, token.length() - 2) + "AA")).isEmpty();
+            digest.verify(() -> MessageDigest.isEqual(any(), any()));
+        }
+    }
+
+    @Test
+    @DisplayName("Answers a bad bearer token with an invalid_token challenge, not a Basic one")
+    void challengesBearer() throws Exception {
+        CustomAuthEntryPoint entryPoint = new CustomAuthEntryPoint(new GlobalExceptionHandler(new ObjectMapper()),
+                mock(AuditLog.class));
+        AccessTokenAuthenticationFilter filter = new AccessTokenAuthenticationFilter(service, entryPoint);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer k1.forged.token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader(HttpHeaders.WWW_AUTHENTICATE)).startsWith("Bearer ").contains("error=\"invalid_token\"");
+    }
+
+    private static AccessTokenService at(Instant instant) {
+        return new AccessTokenService(KEYS, Duration.ofMinutes(15), Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private static Authentication login() {
+        return UsernamePasswordAuthenticationToken.authenticated("EMP-1", null,
+                List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"), new SimpleGrantedAuthority("ROLE_MANAGER")));
+    }
+}
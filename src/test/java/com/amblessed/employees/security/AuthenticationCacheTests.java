@@ -0,0 +1,52 @@
+package com.amblessed.employees.security;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticationCacheTests {
+
+    private final AuthenticationCache cache = new AuthenticationCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("Serves a verified login until the user is evicted")
+    void evicts() {
+        cache.put("EMP-1", "secret", login("EMP-1"), cache.generation());
+        assertThat(cache.get("EMP-1", "secret")).isNotNull();
+        assertThat(cache.get("EMP-1", "other")).isNull();
+
+        cache.evict("EMP-1");
+        assertThat(cache.get("EMP-1", "secret")).isNull();
+    }
+
+    @Test
+    @DisplayName("Drops a login that was being verified while an eviction ran")
+    void rejectsLoadRacingEviction() {
+        long generation = cache.generation();
+        cache.evict("EMP-1");
+        cache.put("EMP-1", "old-secret", login("EMP-1"), generation);
+        assertThat(cache.get("EMP-1", "old-secret")).isNull();
+
+        cache.put("EMP-1", "new-secret", login("EMP-1"), cache.generation());
+        assertThat(cache.get("EMP-1", "new-secret")).isNotNull();
+    }
+
+    private static Authentication login(String userId) {
+        return UsernamePasswordAuthenticationToken.authenticated(userId, null,
+                List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")));
+    }
+}
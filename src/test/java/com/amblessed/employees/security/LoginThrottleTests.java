@@ -0,0 +1,102 @@
+package com.amblessed.employees.security;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Allows a burst, then one attempt per refill interval")
+    void burstAndRefill() {
+        LoginThrottle throttle = throttle(100, 3, 1, 100, 1);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("10.0.0.1", null);
+        }
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.1", null)).isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.acquire("10.0.0.2", null)).doesNotThrowAnyException();
+
+        advance(Duration.ofSeconds(1));
+        throttle.acquire("10.0.0.1", null);
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.1", null)).isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    @DisplayName("Retry-After is the wait until the next attempt is allowed, rounded up")
+    void retryAfter() {
+        LoginThrottle throttle = throttle(100, 100, 100, 2, 0.2);
+        throttle.acquire(null, "EMP-1");
+        throttle.acquire(null, "EMP-1");
+        assertThatThrownBy(() -> throttle.acquire(null, "EMP-1"))
+                .isInstanceOfSatisfying(LoginThrottledException.class, e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(5));
+
+        advance(Duration.ofMillis(4_500));
+        assertThatThrownBy(() -> throttle.acquire(null, "EMP-1"))
+                .isInstanceOfSatisfying(LoginThrottledException.class, e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        advance(Duration.ofMillis(500));
+        assertThatCode(() -> throttle.acquire(null, "EMP-1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("An attempt refused for the user does not use up the address's budget")
+    void userRejectionRefundsAddress() {
+        LoginThrottle throttle = throttle(100, 2, 1, 1, 0.1);
+        throttle.acquire("10.0.0.1", "EMP-1");
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.1", "EMP-1")).hasMessageContaining("this user");
+
+        throttle.acquire("10.0.0.1", "EMP-2");
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.1", "EMP-3")).hasMessageContaining("this address");
+    }
+
+    @Test
+    @DisplayName("Pruning a full map evicts the buckets closest to refilled and keeps the throttled ones")
+    void prunesLeastThrottled() {
+        LoginThrottle throttle = throttle(10, 5, 1, 100, 1);
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("hot", null);
+        }
+        for (int i = 1; i <= 9; i++) {
+            advance(Duration.ofMillis(1));
+            throttle.acquire("client-" + i, null);
+        }
+        assertThat(keys()).isEqualTo(10);
+
+        throttle.acquire("newcomer", null);
+        assertThat(keys()).isEqualTo(10);
+        assertThatThrownBy(() -> throttle.acquire("hot", null)).isInstanceOf(LoginThrottledException.class);
+        // client-1 was the least throttled, so it was dropped and starts over with a full burst
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("client-1", null);
+        }
+        assertThat(keys()).isLessThanOrEqualTo(10);
+    }
+
+    private LoginThrottle throttle(int maxKeys, int ipBurst, double ipPerSecond, int userBurst, double userPerSecond) {
+        return new LoginThrottle(meterRegistry, true, maxKeys, ipBurst, ipPerSecond, userBurst, userPerSecond, now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private double keys() {
+        return meterRegistry.get("auth.login.throttle.keys").tag("scope", "ip").gauge().value();
+    }
+}
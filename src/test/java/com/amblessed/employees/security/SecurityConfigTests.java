@@ -0,0 +1,91 @@
+package com.amblessed.employees.security;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.audit.AuditLog;
+import com.amblessed.employees.controller.EmployeeRestController;
+import com.amblessed.employees.repository.UserRepository;
+import com.amblessed.employees.search.ColumnarEmployees;
+import com.amblessed.employees.service.EmployeeDataVersion;
+import com.amblessed.employees.service.EmployeeService;
+import com.amblessed.employees.service.EmployeeStatistics;
+import com.amblessed.employees.service.ExportJobService;
+import com.amblessed.employees.service.ExportSnapshotCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeRestController.class)
+@Import({SecurityConfig.class, EmployeeAuthorizationManagers.class, EmployeeSecurity.class, RoleMasks.class,
+        CustomAuthEntryPoint.class, CustomAccessDeniedHandler.class, SimpleMeterRegistry.class})
+class SecurityConfigTests {
+
+    private static final String EMPLOYEE_TOKEN = "employee-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AccessTokenService accessTokenService;
+    @MockitoBean
+    private AuthenticationCache authenticationCache;
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+    @MockitoBean
+    private UserRepository userRepository;
+    @MockitoBean
+    private AuditLog auditLog;
+    @MockitoBean
+    private EmployeeService employeeService;
+    @MockitoBean
+    private ExportSnapshotCache exportSnapshotCache;
+    @MockitoBean
+    private ExportJobService exportJobService;
+    @MockitoBean
+    private EmployeeStatistics employeeStatistics;
+    @MockitoBean
+    private ColumnarEmployees columnarEmployees;
+    @MockitoBean
+    private EmployeeDataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        when(accessTokenService.verify(EMPLOYEE_TOKEN)).thenReturn(Optional.of(
+                new UsernamePasswordAuthenticationToken("EMP-2", null,
+                        AuthorityUtils.createAuthorityList("ROLE_EMPLOYEE"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/employees", "/api/employees/stats", "/api/employees/download",
+            "/api/employees/exports/job-1/file", "/api/employees/id/EMP-9"})
+    @DisplayName("HEAD on a manager or admin read is refused for an employee, same as GET")
+    void headIsRefusedForEmployee(String path) throws Exception {
+        mockMvc.perform(head(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + EMPLOYEE_TOKEN))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + EMPLOYEE_TOKEN))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(employeeService, exportJobService);
+    }
+}
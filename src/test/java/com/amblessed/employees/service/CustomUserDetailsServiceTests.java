@@ -0,0 +1,96 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.audit.AuditLog;
+import com.amblessed.employees.entity.Role;
+import com.amblessed.employees.entity.User;
+import com.amblessed.employees.repository.RoleRepository;
+import com.amblessed.employees.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The query cache only serves results for tables that no open transaction has written, so these tests commit
+ * their rows instead of rolling them back.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomUserDetailsServiceTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CustomUserDetailsService userDetailsService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().userId("EMP-00001").password("{noop}secret").active(true)
+                .email("employee1@example.com").build());
+        Role role = new Role();
+        role.setUser(user);
+        role.setUserRole("ROLE_MANAGER");
+        roleRepository.save(role);
+
+        userDetailsService = new CustomUserDetailsService(userRepository, mock(AuditLog.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        roleRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A cold lookup is one statement and a warm one issues no SQL")
+    void warmLookupIssuesNoSql() {
+        UserDetails cold = userDetailsService.loadUserByUsername("EMP-00001");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        UserDetails warm = userDetailsService.loadUserByUsername("EMP-00001");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(warm.getPassword()).isEqualTo(cold.getPassword()).isEqualTo("{noop}secret");
+        assertThat(warm.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_MANAGER");
+    }
+
+    @Test
+    @DisplayName("A role change is visible on the next lookup")
+    void roleChangeInvalidates() {
+        userDetailsService.loadUserByUsername("EMP-00001");
+        Role role = roleRepository.findByUserUserId("EMP-00001").getFirst();
+        role.setUserRole("ROLE_ADMIN");
+        roleRepository.save(role);
+
+        assertThat(userDetailsService.loadUserByUsername("EMP-00001").getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+}
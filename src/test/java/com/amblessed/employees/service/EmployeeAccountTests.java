@@ -0,0 +1,114 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.AccountRequest;
+import com.amblessed.employees.entity.Employee;
+import com.amblessed.employees.entity.EmployeeRequest;
+import com.amblessed.employees.entity.User;
+import com.amblessed.employees.exception.InvalidParameterException;
+import com.amblessed.employees.mapper.EmployeeMapper;
+import com.amblessed.employees.repository.EmployeeRepository;
+import com.amblessed.employees.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@RecordApplicationEvents
+@Import({EmployeeServiceImpl.class, EmployeeMapper.class, EmployeeCountCache.class, EmployeeDataVersion.class,
+        EmployeeResponseCache.class, EmployeeCatalog.class, EmployeeFacetCache.class, SimpleMeterRegistry.class})
+class EmployeeAccountTests {
+
+    private static final String ADMIN_HASH = "{bcrypt}$2a$10$adminhashadminhashadminhashadminhashadminhashadmin";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        Employee admin = EmployeeEvents.employee("EMP-ADMIN").withEmail("admin@example.com").build();
+        admin.getUser().setPassword(ADMIN_HASH);
+        admin.getUser().getRole().setUserRole("ROLE_ADMIN");
+        employeeRepository.save(admin);
+        entityManager.flush();
+        entityManager.clear();
+        when(passwordEncoder.encode("N3w!Passw0rd")).thenReturn("{bcrypt}new");
+    }
+
+    @Test
+    @DisplayName("A record update, as a manager may send for an admin, leaves the login's hash and active flag alone")
+    void recordUpdateKeepsLogin() {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setFirstName("Mallory");
+        request.setLastName("Admin");
+        request.setEmail("admin@example.com");
+        request.setPhoneNumber("(555) 555-0100");
+        request.setDepartment("Engineering");
+        request.setPosition("Developer");
+        request.setPassword("N3w!Passw0rd");
+        request.setSalary(new BigDecimal("90000"));
+        request.setHireDate(LocalDate.of(2024, 1, 1));
+        request.setActive(false);
+
+        employeeService.update("EMP-ADMIN", request);
+        entityManager.flush();
+        entityManager.clear();
+
+        User login = userRepository.findByUserId("EMP-ADMIN").orElseThrow();
+        assertThat(login.getPassword()).isEqualTo(ADMIN_HASH);
+        assertThat(login.isActive()).isTrue();
+        assertThat(employeeRepository.findByUser_UserId("EMP-ADMIN").orElseThrow().getFirstName()).isEqualTo("Mallory");
+        assertThat(events.stream(UserAccountChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The account path sets the password and active flag and drops verified logins")
+    void accountUpdateChangesLogin() {
+        employeeService.updateAccount("EMP-ADMIN", new AccountRequest("N3w!Passw0rd", false));
+        entityManager.flush();
+        entityManager.clear();
+
+        User login = userRepository.findByUserId("EMP-ADMIN").orElseThrow();
+        assertThat(login.getPassword()).isEqualTo("{bcrypt}new");
+        assertThat(login.isActive()).isFalse();
+        assertThat(events.stream(UserAccountChangedEvent.class)).hasSize(1);
+        assertThatThrownBy(() -> employeeService.updateAccount("EMP-ADMIN", new AccountRequest()))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+}
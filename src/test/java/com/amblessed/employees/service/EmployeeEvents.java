@@ -0,0 +1,72 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.Employee;
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.amblessed.employees.repository.EmployeeBuilder;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Feeds {@link EmployeeBuilder} employees to the components that follow {@link EmployeeChangedEvent}s,
+ * either as events or as the rows an index rebuild streams from {@link EmployeeService#exportEmployees}.
+ */
+public final class EmployeeEvents {
+
+    private EmployeeEvents() {
+    }
+
+    public static EmployeeBuilder employee(String employeeId) {
+        return new EmployeeBuilder().withUserId(employeeId);
+    }
+
+    /**
+     * The response the service publishes for the employee, mapped the way {@link EmployeeServiceImpl#mapToResponse} does.
+     */
+    public static EmployeeResponse response(EmployeeBuilder builder) {
+        Employee employee = builder.build();
+        return new EmployeeResponse(employee.getUser().getUserId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getDepartment(), employee.getPosition(),
+                employee.getSalary(), employee.getHireDate(), employee.getPerformanceReview(), employee.getSkills(),
+                employee.getActive(), employee.getUpdatedAt());
+    }
+
+    public static EmployeeChangedEvent created(EmployeeBuilder current) {
+        return EmployeeChangedEvent.created(response(current));
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeBuilder previous, EmployeeBuilder current) {
+        return EmployeeChangedEvent.updated(response(previous), response(current));
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeBuilder previous) {
+        return EmployeeChangedEvent.deleted(response(previous));
+    }
+
+    /**
+     * An {@link EmployeeService} whose export streams exactly these employees, for building an index.
+     */
+    public static EmployeeService serving(List<EmployeeBuilder> employees) {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponse> sink = invocation.getArgument(3);
+            employees.forEach(employee -> sink.accept(response(employee)));
+            return null;
+        }).when(employeeService).exportEmployees(any(), any(), any(), any());
+        return employeeService;
+    }
+
+    public static EmployeeService serving(EmployeeBuilder... employees) {
+        return serving(List.of(employees));
+    }
+}
@@ -0,0 +1,61 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.EmployeeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class EmployeeExporterTests {
+
+    @Test
+    @DisplayName("CSV quotes fields with commas, quotes or line breaks, doubles inner quotes and ends rows with CRLF")
+    void quotesCsvPerRfc4180() throws Exception {
+        EmployeeResponse tricky = new EmployeeResponse("EMP-00001", "Anne, Marie", "O\"Neil", "anne@example.com",
+                null, "Sales", "Account Manager", new BigDecimal("1E+5"), LocalDate.parse("2024-02-29"),
+                "Line one\r\nline \"two\"", "Java\nSQL", true, null);
+        EmployeeResponse plain = new EmployeeResponse("EMP-00002", "Bob", "Stone", "bob@example.com", "555-1002",
+                "HR", "Analyst", new BigDecimal("50000.00"), LocalDate.parse("2020-01-01"), null, null, false, null);
+
+        String csv = exportCsv(List.of(tricky, plain));
+
+        assertThat(csv).isEqualTo("employeeId,firstName,lastName,email,phoneNumber,department,position,salary,"
+                + "hireDate,performanceReview,skills,active\r\n"
+                + "EMP-00001,\"Anne, Marie\",\"O\"\"Neil\",anne@example.com,,Sales,Account Manager,100000,2024-02-29,"
+                + "\"Line one\r\nline \"\"two\"\"\",\"Java\nSQL\",true\r\n"
+                + "EMP-00002,Bob,Stone,bob@example.com,555-1002,HR,Analyst,50000.00,2020-01-01,,,false\r\n");
+    }
+
+    private static String exportCsv(List<EmployeeResponse> rows) throws Exception {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponse> sink = invocation.getArgument(3);
+            rows.forEach(sink);
+            return null;
+        }).when(employeeService).exportEmployees(any(), any(), any(), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = new EmployeeExporter(employeeService, new ObjectMapper())
+                .write(ExportFormat.CSV, null, null, null, out);
+
+        assertThat(written).isEqualTo(rows.size());
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
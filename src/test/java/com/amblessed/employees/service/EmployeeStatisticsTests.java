@@ -0,0 +1,87 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.entity.PositionSalary;
+import com.amblessed.employees.entity.SalaryStats;
+import com.amblessed.employees.repository.EmployeeBuilder;
+import com.amblessed.employees.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.amblessed.employees.service.EmployeeEvents.created;
+import static com.amblessed.employees.service.EmployeeEvents.updated;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeStatisticsTests {
+
+    private EmployeeRepository repository;
+    private EmployeeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EmployeeRepository.class);
+        when(repository.salaryStats()).thenReturn(List.of());
+        statistics = new EmployeeStatistics(repository, new SimpleMeterRegistry(), 0.01);
+        statistics.reconcile();
+    }
+
+    @Test
+    @DisplayName("Writes adjust the aggregates and min/max stay exact when the extreme leaves")
+    void followsWrites() {
+        EmployeeBuilder top = employee("EMP-1", "Engineering", "Developer", 120000);
+        statistics.onEmployeeChanged(created(top));
+        statistics.onEmployeeChanged(created(employee("EMP-2", "Engineering", "Developer", 80000)));
+        statistics.onEmployeeChanged(created(employee("EMP-3", "Engineering", "Manager", 100000)));
+
+        SalaryStats department = statistics.stats(false).getFirst();
+        assertThat(department.position()).isNull();
+        assertThat(department.headcount()).isEqualTo(3);
+        assertThat(department.average()).isEqualByComparingTo("100000");
+        assertThat(department.max()).isEqualByComparingTo("120000");
+
+        statistics.onEmployeeChanged(updated(top, employee("EMP-1", "Sales", "Developer", 120000)));
+
+        List<SalaryStats> byPosition = statistics.stats(true);
+        assertThat(byPosition).extracting(SalaryStats::department, SalaryStats::position, SalaryStats::headcount)
+                .containsExactly(
+                        tuple("Engineering", "Developer", 1L),
+                        tuple("Engineering", "Manager", 1L),
+                        tuple("Sales", "Developer", 1L));
+        assertThat(byPosition.getFirst().max()).isEqualByComparingTo("80000");
+    }
+
+    @Test
+    @DisplayName("Reconciliation reloads only the departments that drifted")
+    void reconcilesDrift() {
+        statistics.onEmployeeChanged(created(employee("EMP-1", "Engineering", "Developer", 90000)));
+        statistics.onEmployeeChanged(created(employee("EMP-2", "Sales", "Manager", 70000)));
+        // The database also has a developer written without going through the service
+        when(repository.salaryStats()).thenReturn(List.of(
+                new SalaryStats("Engineering", "Developer", 2, new BigDecimal("150000"), new BigDecimal("60000"), new BigDecimal("90000")),
+                new SalaryStats("Sales", "Manager", 1, new BigDecimal("70000"), new BigDecimal("70000"), new BigDecimal("70000"))));
+        when(repository.findPositionSalaries("Engineering")).thenReturn(List.of(
+                new PositionSalary("Developer", new BigDecimal("90000")), new PositionSalary("Developer", new BigDecimal("60000"))));
+
+        assertThat(statistics.reconcile()).isEqualTo(1);
+        assertThat(statistics.stats(false).getFirst().min()).isEqualByComparingTo("60000");
+        assertThat(statistics.reconcile()).isZero();
+    }
+
+    private static EmployeeBuilder employee(String employeeId, String department, String position, long salary) {
+        return EmployeeEvents.employee(employeeId).withDepartment(department).withPosition(position)
+                .withSalary(BigDecimal.valueOf(salary));
+    }
+}
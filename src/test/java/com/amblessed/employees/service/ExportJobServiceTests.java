@@ -0,0 +1,57 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ExportJobServiceTests {
+
+    @TempDir
+    Path directory;
+
+    private ExportJobService service;
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("Startup removes only spooled exports and their part files")
+    void startKeepsForeignFiles() throws Exception {
+        String id = UUID.randomUUID().toString();
+        Path complete = Files.createFile(directory.resolve(id + ".csv"));
+        Path partial = Files.createFile(directory.resolve(UUID.randomUUID() + ".ndjson.part"));
+        Path notes = Files.createFile(directory.resolve("notes.txt"));
+        Path unknownFormat = Files.createFile(directory.resolve(id + ".xml"));
+        Path prefixed = Files.createFile(directory.resolve("backup-" + id + ".json"));
+        Path nested = Files.createDirectory(directory.resolve(UUID.randomUUID() + ".json"));
+
+        service = new ExportJobService(mock(EmployeeExporter.class), mock(EmployeeService.class),
+                new SimpleMeterRegistry(), directory.toString(), 1, 1, Duration.ofHours(1), Duration.ofMinutes(10));
+        service.start();
+
+        assertThat(complete).doesNotExist();
+        assertThat(partial).doesNotExist();
+        assertThat(notes).exists();
+        assertThat(unknownFormat).exists();
+        assertThat(prefixed).exists();
+        assertThat(nested).isDirectory();
+    }
+}
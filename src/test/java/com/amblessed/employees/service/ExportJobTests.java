@@ -0,0 +1,37 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportJobTests {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private final ExportJob job = new ExportJob("job-1", "EMP-1", ExportFormat.CSV, null, null, null, Path.of("job-1.csv"));
+
+    @Test
+    @DisplayName("A live download lease keeps the sweeper from expiring the job")
+    void leaseBlocksExpiry() {
+        assertThat(job.lease(NOW.plusSeconds(600))).isTrue();
+        assertThat(job.expire(NOW)).isFalse();
+        assertThat(job.expire(NOW.plusSeconds(600))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Once expired, a job cannot be leased for download")
+    void expiredRejectsLease() {
+        assertThat(job.expire(NOW)).isTrue();
+        assertThat(job.lease(NOW.plusSeconds(600))).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import com.amblessed.employees.exception.InvalidParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportNegotiationTests {
+
+    @ParameterizedTest(name = "Accept-Encoding \"{0}\" -> {1}")
+    @DisplayName("Content coding follows q-values, with explicit codings overriding *")
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "null                      | IDENTITY",
+            "gzip, deflate, br         | GZIP",
+            "deflate                   | DEFLATE",
+            "x-gzip                    | GZIP",
+            "gzip;q=0.5, deflate       | DEFLATE",
+            "gzip;q=0, *               | DEFLATE",
+            "gzip;q=0, deflate;q=0, *  | IDENTITY",
+            "*                         | GZIP",
+            "*;q=0                     | IDENTITY",
+            "gzip;q=0.4, identity;q=0.5| IDENTITY",
+            "GZIP;Q=1                  | GZIP",
+            "gzip;q=abc, deflate       | DEFLATE",
+            "br                        | IDENTITY"
+    })
+    void negotiatesEncoding(String acceptEncoding, ExportEncoding expected) {
+        assertThat(ExportEncoding.negotiate(acceptEncoding)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "Accept \"{0}\" -> {1}")
+    @DisplayName("Format follows q-values of the most specific matching range")
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "null                                   | JSON",
+            "text/csv                               | CSV",
+            "application/x-ndjson, application/ndjson| NDJSON",
+            "text/*                                 | CSV",
+            "*/*                                    | JSON",
+            "text/csv;q=0.2, application/json       | JSON",
+            "text/csv, application/json;q=0.5       | CSV",
+            "*/*, application/json;q=0              | NDJSON",
+            "text/csv;q=0, text/*                   | JSON",
+            "image/png                              | JSON",
+            "not a media type                       | JSON"
+    })
+    void negotiatesFormat(String accept, ExportFormat expected) {
+        assertThat(ExportFormat.negotiate(null, accept)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("An explicit format parameter wins over Accept and must name a known format")
+    void formatParameterWins() {
+        assertThat(ExportFormat.negotiate(" CSV ", "application/json")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.negotiate("xml", null)).isInstanceOf(InvalidParameterException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExportSnapshotCacheTests {
+
+    private final EmployeeExporter exporter = mock(EmployeeExporter.class);
+    private final EmployeeDataVersion dataVersion = new EmployeeDataVersion();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        doAnswer(invocation -> {
+            String department = invocation.getArgument(1);
+            invocation.<OutputStream>getArgument(4).write((department + ":" + "x".repeat(60))
+                    .getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(exporter).write(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Answers an identical export from memory, treating equal salaries as the same filter")
+    void servesHits() throws Exception {
+        ExportSnapshotCache cache = cache(DataSize.ofKilobytes(64), DataSize.ofKilobytes(8));
+
+        String first = write(cache, "Sales", new BigDecimal("60000"));
+        String second = write(cache, "Sales", new BigDecimal("60000.00"));
+
+        assertThat(second).isEqualTo(first).startsWith("Sales:");
+        verify(exporter, times(1)).write(any(), any(), any(), any(), any());
+        write(cache, "Engineering", null);
+        verify(exporter).write(any(), eq("Engineering"), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Re-exports once the data version moves, and after an employee change")
+    void followsDataVersion() throws Exception {
+        ExportSnapshotCache cache = cache(DataSize.ofKilobytes(64), DataSize.ofKilobytes(8));
+
+        write(cache, "Sales", null);
+        dataVersion.onEmployeeChanged(EmployeeChangedEvent.reloaded());
+        write(cache, "Sales", null);
+        verify(exporter, times(2)).write(any(), any(), any(), any(), any());
+
+        cache.onEmployeeChanged(EmployeeChangedEvent.reloaded());
+        write(cache, "Sales", null);
+        verify(exporter, times(3)).write(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Streams but does not keep bodies over the entry limit, and stays within the total size")
+    void evicts() throws Exception {
+        ExportSnapshotCache small = cache(DataSize.ofBytes(1024), DataSize.ofBytes(32));
+        assertThat(write(small, "Sales", null)).hasSize(66);
+        write(small, "Sales", null);
+        verify(exporter, times(2)).write(any(), any(), any(), any(), any());
+
+        clearInvocations(exporter);
+        ExportSnapshotCache bounded = cache(DataSize.ofBytes(100), DataSize.ofKilobytes(8));
+        for (int round = 0; round < 2; round++) {
+            write(bounded, "Sales", null);
+            write(bounded, "Legal", null);
+        }
+        // Only one 66-byte body fits in 100 bytes, so the second round cannot be served entirely from memory
+        verify(exporter, atLeast(3)).write(any(), any(), any(), any(), any());
+    }
+
+    private ExportSnapshotCache cache(DataSize maxSize, DataSize maxEntrySize) {
+        return new ExportSnapshotCache(exporter, dataVersion, new SimpleMeterRegistry(), true, maxSize, maxEntrySize,
+                Duration.ofMinutes(10), Runnable::run);
+    }
+
+    private static String write(ExportSnapshotCache cache, String department, BigDecimal salary) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.write(ExportFormat.CSV, ExportEncoding.IDENTITY, department, null, salary, out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
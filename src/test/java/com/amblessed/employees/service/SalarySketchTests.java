@@ -0,0 +1,68 @@
+package com.amblessed.employees.service;
+
+/*
+ * @Project Name: employees
+ * @Author: Okechukwu Bright Onwumere
+ * @Created: 18-Oct-26
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SalarySketchTests {
+
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    @DisplayName("Quantiles stay within the relative error bound, also after removals")
+    void boundsRelativeError() {
+        Random random = new Random(42);
+        List<BigDecimal> salaries = new ArrayList<>();
+        SalarySketch sketch = new SalarySketch(ACCURACY);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal salary = BigDecimal.valueOf(40_000 + random.nextInt(160_000));
+            salaries.add(salary);
+            sketch.add(salary);
+        }
+        for (int i = 0; i < 3_000; i++) {
+            sketch.remove(salaries.removeLast());
+        }
+        Collections.sort(salaries);
+
+        assertThat(sketch.count()).isEqualTo(salaries.size());
+        for (double q : new double[]{0.25, 0.5, 0.75, 0.9}) {
+            double exact = salaries.get((int) Math.floor(q * (salaries.size() - 1))).doubleValue();
+            assertThat(sketch.quantile(q).doubleValue()).isCloseTo(exact, within(exact * ACCURACY));
+        }
+    }
+
+    @Test
+    @DisplayName("Merged sketches answer like one sketch over both inputs")
+    void mergesExactly() {
+        SalarySketch engineering = new SalarySketch(ACCURACY);
+        SalarySketch sales = new SalarySketch(ACCURACY);
+        SalarySketch both = new SalarySketch(ACCURACY);
+        for (int i = 0; i < 500; i++) {
+            BigDecimal salary = BigDecimal.valueOf(50_000 + 137L * i);
+            (i % 3 == 0 ? engineering : sales).add(salary);
+            both.add(salary);
+        }
+
+        SalarySketch merged = engineering.copy();
+        merged.mergeFrom(sales);
+
+        assertThat(merged.count()).isEqualTo(500);
+        assertThat(merged.quantile(0.5)).isEqualTo(both.quantile(0.5));
+        assertThat(merged.quantile(0.9)).isEqualTo(both.quantile(0.9));
+        assertThat(new SalarySketch(ACCURACY).quantile(0.5)).isNull();
+    }
+}